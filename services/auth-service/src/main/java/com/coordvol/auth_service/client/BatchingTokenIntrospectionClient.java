@@ -0,0 +1,150 @@
+package com.coordvol.auth_service.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+import com.coordvol.auth_service.dto.TokenIntrospectionRequestDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Client for POST /auth/introspect that coalesces concurrent lookups.
+ *
+ * Lookups arriving within the batching window (or until maxBatchSize is
+ * reached) go out as one request; the same token asked for twice in a batch is
+ * sent once. While maxConcurrentBatches requests are in flight, new lookups
+ * keep accumulating into the next batch. Each lookup fails after
+ * lookupTimeout. Meant for the gateway and other callers of the auth service,
+ * it is not a bean here. Call close() on shutdown.
+ */
+@Slf4j
+public class BatchingTokenIntrospectionClient implements AutoCloseable {
+
+    private static final String CLIENT_SECRET_HEADER = "X-Introspection-Secret";
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+    private static final ParameterizedTypeReference<List<TokenIntrospectionDTO>> RESULTS =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final String clientSecret;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final Duration lookupTimeout;
+    // Lookups not answered yet, failed together if the batching pipeline dies
+    private final Set<Lookup> pending = ConcurrentHashMap.newKeySet();
+    private volatile Sinks.Many<Lookup> lookups;
+    private volatile Disposable batching;
+    private volatile boolean closed;
+
+    public BatchingTokenIntrospectionClient(WebClient webClient, String clientSecret,
+            Duration window, int maxBatchSize, int maxConcurrentBatches, Duration lookupTimeout) {
+        this.webClient = webClient;
+        this.clientSecret = clientSecret;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.lookupTimeout = lookupTimeout;
+        start();
+    }
+
+    public Mono<TokenIntrospectionDTO> introspect(String token) {
+        return Mono.defer(() -> {
+            Lookup lookup = new Lookup(token, Sinks.one());
+            pending.add(lookup);
+            submit(lookup);
+            return lookup.result().asMono()
+                    .timeout(lookupTimeout)
+                    .doFinally(signal -> pending.remove(lookup));
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        lookups.tryEmitComplete();
+        batching.dispose();
+        failPending(new IllegalStateException("Introspection client is closed"));
+    }
+
+    private void start() {
+        Sinks.Many<Lookup> sink = Sinks.many().unicast().onBackpressureBuffer();
+        lookups = sink;
+        // Fair backpressure: a full set of in-flight batches holds the buffer back
+        // instead of overflowing it when the window fires
+        batching = sink.asFlux()
+                .bufferTimeout(maxBatchSize, window, true)
+                .flatMap(this::send, maxConcurrentBatches)
+                .subscribe(null, this::restart);
+    }
+
+    private void restart(Throwable error) {
+        log.warn("Token introspection batching failed, restarting: {}", error.getMessage());
+        // The old sink is cancelled by now, so lookups emitted from here on retry into the new one
+        failPending(error);
+        if (!closed) {
+            start();
+        }
+    }
+
+    private void failPending(Throwable error) {
+        for (Lookup lookup : pending) {
+            lookup.result().tryEmitError(error);
+        }
+    }
+
+    private void submit(Lookup lookup) {
+        long deadline = System.nanoTime() + EMIT_TIMEOUT.toNanos();
+        // Callers emit from many threads; spin over the sink's serialization failures and
+        // over the moment a failed pipeline is being replaced
+        while (!closed && System.nanoTime() < deadline) {
+            if (lookups.tryEmitNext(lookup).isSuccess()) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        lookup.result().tryEmitError(new IllegalStateException(
+                closed ? "Introspection client is closed" : "Introspection lookup could not be queued"));
+    }
+
+    private Mono<Void> send(List<Lookup> batch) {
+        Map<String, List<Lookup>> byToken = new LinkedHashMap<>();
+        for (Lookup lookup : batch) {
+            byToken.computeIfAbsent(lookup.token(), token -> new ArrayList<>()).add(lookup);
+        }
+        List<String> tokens = List.copyOf(byToken.keySet());
+        return webClient.post()
+                .uri("/auth/introspect")
+                .header(CLIENT_SECRET_HEADER, clientSecret)
+                .bodyValue(TokenIntrospectionRequestDTO.builder().tokens(tokens).build())
+                .retrieve()
+                .bodyToMono(RESULTS)
+                .doOnNext(results -> {
+                    for (int i = 0; i < tokens.size(); i++) {
+                        TokenIntrospectionDTO result = i < results.size()
+                                ? results.get(i)
+                                : TokenIntrospectionDTO.builder().active(false).build();
+                        byToken.get(tokens.get(i)).forEach(lookup -> lookup.result().tryEmitValue(result));
+                    }
+                })
+                .doOnError(e -> batch.forEach(lookup -> lookup.result().tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private record Lookup(String token, Sinks.One<TokenIntrospectionDTO> result) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.coordvol.auth_service.client;
+
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Language;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Outbound calls to the User Service. Invoked by the outbox relay, never
+ * inline in a request, so callers must tolerate repeated delivery.
+ */
+public interface UserServiceClient {
+    Mono<Void> createUserProfile(UUID userId, String firstName, String lastName, String email, Language language);
+}
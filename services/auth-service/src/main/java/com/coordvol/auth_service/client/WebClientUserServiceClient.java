@@ -0,0 +1,39 @@
+package com.coordvol.auth_service.client;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.coordvol.auth_service.domain.enums.Language;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class WebClientUserServiceClient implements UserServiceClient {
+
+    private final WebClient webClient;
+
+    public WebClientUserServiceClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${auth.user-service.base-url:http://user-service:8080}") String baseUrl) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    }
+
+    @Override
+    public Mono<Void> createUserProfile(UUID userId, String firstName, String lastName, String email, Language language) {
+        return webClient.post()
+                .uri("/users")
+                .bodyValue(new UserProfileCreatedEvent(userId, email, firstName, lastName, language))
+                .retrieve()
+                .toBodilessEntity()
+                // 409 means an earlier delivery already created the profile
+                .onErrorResume(WebClientResponseException.class,
+                        e -> e.getStatusCode() == HttpStatus.CONFLICT ? Mono.empty() : Mono.error(e))
+                .then();
+    }
+}
@@ -0,0 +1,27 @@
+package com.coordvol.auth_service.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.coordvol.auth_service.util.CachedClock;
+
+/**
+ * The application clock. Everything that needs the time takes this bean, so
+ * tests can substitute a fixed or mutable Clock instead of sleeping.
+ *
+ * It keeps the system default zone, so LocalDateTime values derived from it
+ * match the ones written before it existed. The time is cached and refreshed
+ * every auth.clock.tick; ClockBenchmark compares it with the system clock.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${auth.clock.tick:1ms}") Duration tick) {
+        return new CachedClock(Clock.systemDefaultZone(), tick);
+    }
+}
@@ -0,0 +1,160 @@
+package com.coordvol.auth_service.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import com.coordvol.auth_service.security.SigningKeyRing;
+import com.coordvol.auth_service.security.SigningKeyRing.SigningKey;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the access token signing keys.
+ *
+ * With no keys configured tokens keep being signed with the shared jwt.secret
+ * (HS256), which is also how tokens issued without a kid are verified.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtSigningConfig {
+
+    private static final ECParameterSpec P256 = p256();
+    private static final byte[] PROBE_MESSAGE = "jwt signing key check".getBytes(StandardCharsets.US_ASCII);
+
+    @Bean
+    public SigningKeyRing signingKeyRing(JwtSigningProperties properties,
+            @Value("${jwt.expiration}") long expirationMillis) {
+        List<SigningKey> keys = new ArrayList<>();
+        for (JwtSigningProperties.Key key : properties.keys()) {
+            ECPublicKey publicKey = readPublicKey(key);
+            PrivateKey privateKey = key.privateKey() != null ? readPrivateKey(key) : null;
+            if (privateKey != null) {
+                requireMatchingPair(key.kid(), publicKey, privateKey);
+            }
+            keys.add(new SigningKey(
+                    key.kid(),
+                    publicKey,
+                    privateKey,
+                    key.activatesAt() != null ? key.activatesAt() : Instant.EPOCH,
+                    key.expiresAt()));
+        }
+        warnOnShortOverlap(keys, Duration.ofMillis(expirationMillis));
+        if (keys.isEmpty()) {
+            log.warn("No jwt.signing.keys configured, access tokens are signed with the shared HMAC secret");
+        }
+        return new SigningKeyRing(keys);
+    }
+
+    /**
+     * A key must stay verifiable for a full token lifetime after its successor
+     * takes over signing, otherwise its last tokens are rejected early.
+     */
+    private static void warnOnShortOverlap(List<SigningKey> keys, Duration tokenLifetime) {
+        List<SigningKey> signing = keys.stream()
+                .filter(key -> key.privateKey() != null)
+                .sorted(Comparator.comparing(SigningKey::activatesAt))
+                .toList();
+        for (int i = 0; i + 1 < signing.size(); i++) {
+            SigningKey previous = signing.get(i);
+            Instant handover = signing.get(i + 1).activatesAt();
+            if (previous.expiresAt() != null && previous.expiresAt().isBefore(handover.plus(tokenLifetime))) {
+                log.warn("Signing key {} expires less than one token lifetime after key {} activates",
+                        previous.kid(), signing.get(i + 1).kid());
+            }
+        }
+    }
+
+    private static ECPublicKey readPublicKey(JwtSigningProperties.Key key) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(decodePem(key.publicKey())));
+            requireP256(key.kid(), publicKey.getParams());
+            return publicKey;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new IllegalStateException("Cannot read public key for signing key " + key.kid(), e);
+        }
+    }
+
+    /**
+     * Compares the whole domain (field, coefficients, generator, order and
+     * cofactor): other 256-bit curves such as secp256k1 share the field size.
+     */
+    static void requireP256(String kid, ECParameterSpec params) {
+        boolean p256 = params.getCurve().equals(P256.getCurve())
+                && params.getGenerator().equals(P256.getGenerator())
+                && params.getOrder().equals(P256.getOrder())
+                && params.getCofactor() == P256.getCofactor();
+        if (!p256) {
+            throw new IllegalStateException("Signing key " + kid + " is not a P-256 key");
+        }
+    }
+
+    /**
+     * Signs and verifies a probe message, so a private key configured with the
+     * wrong public key fails at startup instead of on every token it signs.
+     */
+    private static void requireMatchingPair(String kid, ECPublicKey publicKey, PrivateKey privateKey) {
+        try {
+            Signature signer = Signature.getInstance("SHA256withECDSA");
+            signer.initSign(privateKey);
+            signer.update(PROBE_MESSAGE);
+            byte[] signature = signer.sign();
+            Signature verifier = Signature.getInstance("SHA256withECDSA");
+            verifier.initVerify(publicKey);
+            verifier.update(PROBE_MESSAGE);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException("Private key of signing key " + kid + " does not match its public key");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot use private key of signing key " + kid, e);
+        }
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 is not supported by this JVM", e);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(JwtSigningProperties.Key key) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decodePem(key.privateKey())));
+        } catch (GeneralSecurityException | IOException e) {
+            throw new IllegalStateException("Cannot read private key for signing key " + key.kid(), e);
+        }
+    }
+
+    private static byte[] decodePem(Resource resource) throws IOException {
+        String pem = resource.getContentAsString(StandardCharsets.US_ASCII);
+        String body = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+}
@@ -0,0 +1,24 @@
+package com.coordvol.auth_service.config;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+/**
+ * ES256 signing keys, bound from jwt.signing.keys[n].*:
+ *
+ * kid, public-key (PEM, X.509), private-key (PEM, PKCS#8, omitted for
+ * verify-only keys), activates-at and expires-at (ISO-8601 instants, optional).
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public record JwtSigningProperties(List<Key> keys) {
+
+    public JwtSigningProperties {
+        keys = keys == null ? List.of() : keys;
+    }
+
+    public record Key(String kid, Resource publicKey, Resource privateKey, Instant activatesAt, Instant expiresAt) {
+    }
+}
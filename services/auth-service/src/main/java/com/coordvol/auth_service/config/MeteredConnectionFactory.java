@@ -0,0 +1,88 @@
+package com.coordvol.auth_service.config;
+
+import java.util.function.ToIntFunction;
+
+import org.reactivestreams.Publisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection pool that reports how long callers wait for a connection.
+ *
+ * auth.db.pool.acquire times every acquire (outcome=success|failure), so pool
+ * exhaustion shows up as a latency shift before it turns into acquire
+ * timeouts. auth.db.pool.connections{state} gauges active, idle and pending
+ * counts from the pool itself. Disposing this factory closes the pool.
+ */
+public final class MeteredConnectionFactory implements ConnectionFactory, Disposable {
+
+    private final ConnectionPool pool;
+    private final MeterRegistry meterRegistry;
+    private final Timer acquired;
+    private final Timer failed;
+
+    public MeteredConnectionFactory(ConnectionPool pool, String name, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.acquired = acquireTimer(name, "success");
+        this.failed = acquireTimer(name, "failure");
+        pool.getMetrics().ifPresent(metrics -> {
+            connectionGauge(metrics, name, "active", PoolMetrics::acquiredSize);
+            connectionGauge(metrics, name, "idle", PoolMetrics::idleSize);
+            connectionGauge(metrics, name, "pending", PoolMetrics::pendingAcquireSize);
+            connectionGauge(metrics, name, "max", PoolMetrics::getMaxAllocatedSize);
+        });
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return pool.create()
+                    .doOnSuccess(connection -> sample.stop(acquired))
+                    .doOnError(e -> sample.stop(failed));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public void dispose() {
+        pool.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pool.isDisposed();
+    }
+
+    private Timer acquireTimer(String name, String outcome) {
+        return Timer.builder("auth.db.pool.acquire")
+                .description("Time spent waiting for a pooled connection")
+                .tag("pool", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void connectionGauge(PoolMetrics metrics, String name, String state,
+            ToIntFunction<PoolMetrics> value) {
+        Gauge.builder("auth.db.pool.connections", metrics, m -> value.applyAsInt(m))
+                .description("Pooled connections by state")
+                .tag("pool", name)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+}
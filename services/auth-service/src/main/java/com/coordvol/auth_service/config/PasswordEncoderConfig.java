@@ -0,0 +1,69 @@
+package com.coordvol.auth_service.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Password encoder setup.
+ *
+ * New hashes are written as {bcrypt} with a work factor picked at startup so a
+ * single hash takes roughly auth.password.hash.target-ms on this host. Hashes
+ * stored without an id prefix or with a lower cost still verify, and
+ * PasswordEncoder#upgradeEncoding reports them so login can rehash them.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String ENCODING_ID = "bcrypt";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.password.hash.strength:0}") int strength,
+            @Value("${auth.password.hash.target-ms:250}") long targetMillis,
+            @Value("${auth.password.hash.min-strength:10}") int minStrength,
+            @Value("${auth.password.hash.max-strength:16}") int maxStrength) {
+        int workFactor = strength > 0 ? strength : calibrate(targetMillis, minStrength, maxStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ENCODING_ID,
+                Map.of(ENCODING_ID, new BCryptPasswordEncoder(workFactor)));
+        // Hashes written before the {id} prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /**
+     * Measures BCrypt at the minimum strength and raises the work factor while the
+     * estimated hash time stays within the target. Each extra step doubles the cost.
+     */
+    static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration"); // warm-up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double measuredMillis = Math.max(best / 1_000_000.0, 0.001);
+        int strength = minStrength;
+        double estimate = measuredMillis;
+        while (strength < maxStrength && estimate * 2 <= targetMillis) {
+            estimate *= 2;
+            strength++;
+        }
+        log.info("BCrypt strength {} selected (~{} ms per hash, target {} ms)",
+                strength, Math.round(estimate), targetMillis);
+        return strength;
+    }
+}
@@ -1,10 +1,175 @@
 package com.coordvol.auth_service.config;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.ValidationDepth;
 
+/**
+ * R2DBC setup: auditing, the connection pool and query metrics.
+ *
+ * The pool is built here instead of by auto-configuration so every setting
+ * is explicit and acquisition can be timed; it reads the usual
+ * spring.r2dbc.url/username/password and spring.r2dbc.pool.* keys. The URL
+ * must name the driver directly (r2dbc:postgresql:), not r2dbc:pool:.
+ *
+ * The driver already keeps every parameterized query as a named server-side
+ * statement per connection, but without bound by default; the cache is bounded
+ * here (auth.db.prepared-statement-cache-size) so bulk inserts, whose SQL varies
+ * with the batch size, cannot grow it indefinitely. Results come back in binary,
+ * which spares the text parsing of UUID and timestamp columns.
+ *
+ * With auth.db.replica.url set, a second pool is opened on the read replica
+ * and the connection factory routes between the two (see
+ * ReplicaRoutingConnectionFactory); reads only go to the replica where the
+ * caller asks for it with ReplicaReads.preferReplica.
+ */
 @Configuration
-@EnableR2dbcAuditing
+@EnableR2dbcAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
+@EnableConfigurationProperties(ReplicaDatabaseProperties.class)
 public class R2dbcConfig {
 
+    /**
+     * Driver options for the primary, shared by the pool and by connections
+     * that must live outside it (the token epoch listener), so both get the
+     * same host, SSL and URL options.
+     */
+    @Bean
+    public ConnectionFactoryOptions primaryConnectionOptions(
+            @Value("${spring.r2dbc.url}") String url,
+            @Value("${spring.r2dbc.username}") String username,
+            @Value("${spring.r2dbc.password}") String password,
+            @Value("${auth.db.prepared-statement-cache-size:256}") int preparedStatementCacheSize,
+            @Value("${auth.db.binary-transfer:true}") boolean binaryTransfer) {
+        return options(url, username, password, preparedStatementCacheSize, binaryTransfer);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionFactory connectionFactory(
+            ConnectionFactoryOptions primaryConnectionOptions,
+            @Value("${spring.r2dbc.pool.initial-size:5}") int initialSize,
+            @Value("${spring.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${spring.r2dbc.pool.min-idle:5}") int minIdle,
+            @Value("${spring.r2dbc.pool.max-idle-time:10m}") Duration maxIdleTime,
+            @Value("${spring.r2dbc.pool.max-life-time:30m}") Duration maxLifeTime,
+            @Value("${spring.r2dbc.pool.max-acquire-time:3s}") Duration maxAcquireTime,
+            @Value("${spring.r2dbc.pool.max-create-connection-time:5s}") Duration maxCreateConnectionTime,
+            ReplicaDatabaseProperties replicaProperties,
+            MeterRegistry meterRegistry) {
+        ConnectionPoolConfiguration.Builder poolSettings = ConnectionPoolConfiguration.builder()
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .minIdle(minIdle)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                // Fail fast with an error instead of queueing requests behind an exhausted pool
+                .maxAcquireTime(maxAcquireTime)
+                .maxCreateConnectionTime(maxCreateConnectionTime)
+                // A dead connection is detected locally; no validation round-trip per acquire
+                .validationDepth(ValidationDepth.LOCAL);
+        MeteredConnectionFactory primary = pool("primary", poolSettings, primaryConnectionOptions, meterRegistry);
+        if (!replicaProperties.enabled()) {
+            return primary;
+        }
+        // The replica pool gets the same settings; only marked reads use it
+        MeteredConnectionFactory replica = pool("replica", poolSettings,
+                replicaOptions(replicaProperties, primaryConnectionOptions), meterRegistry);
+        return new ReplicaRoutingConnectionFactory(primary, replica, replicaProperties.maxLag(),
+                replicaProperties.maxReceiveSilence(), replicaProperties.probeInterval(), meterRegistry);
+    }
+
+    /**
+     * Audit timestamps come from the application clock like every other time.
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider(Clock clock) {
+        return () -> Optional.of(LocalDateTime.now(clock));
+    }
+
+    @Bean
+    public RepositoryQueryMetrics repositoryQueryMetrics(MeterRegistry meterRegistry,
+            @Value("${auth.db.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        return new RepositoryQueryMetrics(meterRegistry, slowQueryThreshold);
+    }
+
+    /**
+     * Attaches RepositoryQueryMetrics to every Spring Data repository. Static
+     * and lazy, as post-processors are created before regular beans.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryQueryMetricsPostProcessor(ObjectProvider<RepositoryQueryMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                    repositoryFactory.addRepositoryFactoryCustomizer(
+                            factory -> factory.addInvocationListener(metrics.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static ConnectionFactoryOptions options(String url, String username, String password,
+            int preparedStatementCacheSize, boolean binaryTransfer) {
+        return ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                // Bounded so ad-hoc SQL (bulk inserts with generated placeholders) cannot grow it without limit
+                .option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES, preparedStatementCacheSize)
+                .option(PostgresqlConnectionFactoryProvider.FORCE_BINARY, binaryTransfer)
+                .build();
+    }
+
+    /**
+     * The replica URL with the primary's credentials unless it has its own,
+     * and the primary's statement cache and transfer settings.
+     */
+    private static ConnectionFactoryOptions replicaOptions(ReplicaDatabaseProperties replicaProperties,
+            ConnectionFactoryOptions primary) {
+        // getRequiredValue is untyped in r2dbc-spi 1.0
+        String username = replicaProperties.username() != null
+                ? replicaProperties.username()
+                : (String) primary.getRequiredValue(ConnectionFactoryOptions.USER);
+        CharSequence password = replicaProperties.password() != null
+                ? replicaProperties.password()
+                : (CharSequence) primary.getRequiredValue(ConnectionFactoryOptions.PASSWORD);
+        Integer preparedStatementCacheSize = (Integer) primary.getRequiredValue(
+                PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES);
+        Boolean binaryTransfer = (Boolean) primary.getRequiredValue(PostgresqlConnectionFactoryProvider.FORCE_BINARY);
+        return ConnectionFactoryOptions.parse(replicaProperties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES, preparedStatementCacheSize)
+                .option(PostgresqlConnectionFactoryProvider.FORCE_BINARY, binaryTransfer)
+                .build();
+    }
+
+    private static MeteredConnectionFactory pool(String name, ConnectionPoolConfiguration.Builder settings,
+            ConnectionFactoryOptions options, MeterRegistry meterRegistry) {
+        ConnectionPool pool = new ConnectionPool(settings
+                .connectionFactory(ConnectionFactories.get(options))
+                .name(name)
+                .build());
+        return new MeteredConnectionFactory(pool, name, meterRegistry);
+    }
 }
@@ -0,0 +1,83 @@
+package com.coordvol.auth_service.config;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.coordvol.auth_service.repository.ReplicaReads;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-your-writes override for replica reads.
+ *
+ * A request that may write (any method but GET, HEAD and OPTIONS) runs pinned
+ * to the primary, and the authenticated user is remembered as having written.
+ * That user's requests stay pinned for the read-your-writes window
+ * (auth.db.replica.max-lag plus probe-interval), after which the replica is
+ * known to have caught up. The table is instance-local and striped by user,
+ * so a collision only sends another user's reads to the primary. Runs after
+ * the security chain, which provides the principal; without a replica it
+ * does nothing.
+ */
+@Component
+public class ReadYourWritesWebFilter implements WebFilter {
+
+    private final boolean enabled;
+    private final Clock clock;
+    private final long windowMillis;
+    private final AtomicLongArray lastWrites;
+    private final int mask;
+
+    public ReadYourWritesWebFilter(ReplicaDatabaseProperties replicaProperties, Clock clock) {
+        this.enabled = replicaProperties.enabled();
+        this.clock = clock;
+        this.windowMillis = replicaProperties.readYourWritesWindow().toMillis();
+        int size = Integer.highestOneBit(Math.max(1, replicaProperties.readYourWritesSlots() - 1)) << 1;
+        this.lastWrites = new AtomicLongArray(enabled ? size : 1);
+        this.mask = lastWrites.length() - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        Mono<String> user = exchange.getPrincipal().map(Principal::getName);
+        if (isReadOnly(exchange.getRequest().getMethod())) {
+            return user.filter(this::wroteRecently)
+                    .hasElement()
+                    .flatMap(pinned -> pinned
+                            ? chain.filter(exchange).contextWrite(ReplicaReads::pinToPrimary)
+                            : chain.filter(exchange));
+        }
+        return user.defaultIfEmpty("")
+                .flatMap(name -> chain.filter(exchange)
+                        .doFinally(signal -> {
+                            if (!name.isEmpty()) {
+                                lastWrites.set(slot(name), clock.millis());
+                            }
+                        }))
+                .contextWrite(ReplicaReads::pinToPrimary);
+    }
+
+    private boolean wroteRecently(String user) {
+        long lastWrite = lastWrites.get(slot(user));
+        return lastWrite != 0 && clock.millis() - lastWrite < windowMillis;
+    }
+
+    private static boolean isReadOnly(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+    }
+
+    private int slot(String user) {
+        int h = user.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,41 @@
+package com.coordvol.auth_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica, bound from auth.db.replica.*:
+ *
+ * url (r2dbc:postgresql:, empty disables the replica), username and password
+ * (default to the primary's), max-lag (replay lag above which replica reads go
+ * to the primary), max-receive-silence (how long the replica may go without a
+ * message from the primary before its lag counts as unknown; above the
+ * primary's keepalive period, half of wal_sender_timeout), probe-interval (how
+ * often the lag is measured) and read-your-writes-slots (size of the table of
+ * users who wrote recently).
+ */
+@ConfigurationProperties(prefix = "auth.db.replica")
+public record ReplicaDatabaseProperties(String url, String username, String password, Duration maxLag,
+        Duration maxReceiveSilence, Duration probeInterval, Integer readYourWritesSlots) {
+
+    public ReplicaDatabaseProperties {
+        url = url == null ? "" : url.trim();
+        maxLag = maxLag == null ? Duration.ofSeconds(2) : maxLag;
+        maxReceiveSilence = maxReceiveSilence == null ? Duration.ofSeconds(40) : maxReceiveSilence;
+        probeInterval = probeInterval == null ? Duration.ofSeconds(1) : probeInterval;
+        readYourWritesSlots = readYourWritesSlots == null ? 65536 : readYourWritesSlots;
+    }
+
+    public boolean enabled() {
+        return !url.isEmpty();
+    }
+
+    /**
+     * How long a user's reads stay on the primary after they wrote: the lag
+     * allowed on the replica plus the time until that lag is measured again.
+     */
+    public Duration readYourWritesWindow() {
+        return maxLag.plus(probeInterval);
+    }
+}
@@ -0,0 +1,159 @@
+package com.coordvol.auth_service.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+
+import com.coordvol.auth_service.repository.ReplicaReads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends reads marked with ReplicaReads.preferReplica to the replica pool and
+ * everything else to the primary pool.
+ *
+ * Staleness policy: the replica's replay lag is measured every probe interval
+ * and marked reads only go to the replica while the last measurement is at
+ * most maxLag. A failed or timed-out probe counts as unknown lag, so a replica
+ * that is down or unreachable sheds its reads to the primary until it answers
+ * again; so does a replica that answers but has lost its replication stream
+ * (see LAG_SQL). Marked reads sent to the primary for this reason are counted in
+ * auth.db.replica.fallback, and auth.db.replica.lag gauges the lag in seconds
+ * (-1 while unknown). Disposing this factory closes both pools.
+ */
+@Slf4j
+public final class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements Disposable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final long UNKNOWN_LAG = -1;
+
+    /**
+     * Replay lag in milliseconds. A server that is not in recovery has none. A
+     * standby whose WAL receiver is not streaming, or has heard nothing from the
+     * primary for longer than $1 ms, is unknown (-1): having replayed all it
+     * received then says nothing about what it missed. Otherwise a standby that
+     * has replayed everything it received has none.
+     *
+     * pg_stat_wal_receiver only shows the status to superusers and members of
+     * pg_read_all_stats, so the replica user needs that role; without it the
+     * lag stays unknown and every read goes to the primary.
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (
+                    SELECT 1 FROM pg_stat_wal_receiver
+                    WHERE status = 'streaming'
+                      AND last_msg_receipt_time > now() - $1::float8 * interval '1 millisecond') THEN -1
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, -1)
+            END::bigint
+            """;
+
+    private final ConnectionFactory primary;
+    private final ConnectionFactory replica;
+    private final long maxLagMillis;
+    private final long maxReceiveSilenceMillis;
+    private final Counter fallbacks;
+    private final Disposable probe;
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public ReplicaRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica, Duration maxLag,
+            Duration maxReceiveSilence, Duration probeInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.maxReceiveSilenceMillis = maxReceiveSilence.toMillis();
+        setTargetConnectionFactories(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+        setLenientFallback(false);
+        this.fallbacks = Counter.builder("auth.db.replica.fallback")
+                .description("Replica reads sent to the primary because the replica lag was too high or unknown")
+                .register(meterRegistry);
+        Gauge.builder("auth.db.replica.lag", this, factory -> factory.lagMillis < 0 ? -1 : factory.lagMillis / 1000.0)
+                .description("Replica replay lag in seconds, -1 while unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        // Starts unknown, so reads stay on the primary until the first probe answers
+        this.probe = Flux.interval(Duration.ZERO, probeInterval)
+                .concatMap(tick -> measureLag()
+                        .timeout(probeInterval)
+                        .onErrorResume(e -> {
+                            if (lagMillis != UNKNOWN_LAG) {
+                                log.warn("Replica lag probe failed, reads go to the primary: {}", e.getMessage());
+                            }
+                            return Mono.just(UNKNOWN_LAG);
+                        }))
+                .subscribe(this::updateLag);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> {
+            if (!ReplicaReads.replicaRequested(context)) {
+                return Mono.just(PRIMARY);
+            }
+            if (isReplicaFresh()) {
+                return Mono.just(REPLICA);
+            }
+            fallbacks.increment();
+            return Mono.just(PRIMARY);
+        });
+    }
+
+    /**
+     * Whether the last lag measurement allows reads on the replica.
+     */
+    public boolean isReplicaFresh() {
+        long lag = lagMillis;
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+
+    @Override
+    public void dispose() {
+        probe.dispose();
+        dispose(primary);
+        dispose(replica);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return probe.isDisposed();
+    }
+
+    private Mono<Long> measureLag() {
+        return Mono.usingWhen(replica.create(),
+                connection -> Mono.from(connection.createStatement(LAG_SQL)
+                                .bind("$1", maxReceiveSilenceMillis)
+                                .execute())
+                        .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Long.class)))),
+                Connection::close);
+    }
+
+    private void updateLag(long lag) {
+        boolean wasFresh = isReplicaFresh();
+        lagMillis = lag;
+        if (wasFresh && !isReplicaFresh() && lag != UNKNOWN_LAG) {
+            log.warn("Replica is {} ms behind (limit {} ms), reads go to the primary", lag, maxLagMillis);
+        } else if (!wasFresh && isReplicaFresh()) {
+            log.info("Replica is {} ms behind, serving replica reads", lag);
+        }
+    }
+
+    private static void dispose(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
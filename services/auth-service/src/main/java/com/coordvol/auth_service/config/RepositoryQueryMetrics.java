@@ -0,0 +1,61 @@
+package com.coordvol.auth_service.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times every repository method call, including custom fragment methods.
+ *
+ * Reactive calls are measured until their publisher terminates, so the timer
+ * auth.db.query{repository,method,outcome} covers acquiring the connection,
+ * the round-trip and decoding. Calls slower than the threshold are logged at
+ * WARN with the method but never the arguments, which may be emails or hashes.
+ */
+@Slf4j
+public class RepositoryQueryMetrics implements RepositoryMethodInvocationListener {
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public RepositoryQueryMetrics(MeterRegistry meterRegistry, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long nanos = invocation.getDuration(TimeUnit.NANOSECONDS);
+        String outcome = invocation.getResult() != null
+                ? invocation.getResult().getState().name().toLowerCase(Locale.ROOT)
+                : "unknown";
+        TimerKey key = new TimerKey(invocation.getRepositoryInterface(), invocation.getMethod(), outcome);
+        timers.computeIfAbsent(key, this::timer).record(nanos, TimeUnit.NANOSECONDS);
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow query {}.{} took {} ms ({})", key.repository().getSimpleName(), key.method().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(nanos), outcome);
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("auth.db.query")
+                .description("Repository method latency")
+                .tag("repository", key.repository().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Class<?> repository, Method method, String outcome) {
+    }
+}
@@ -8,24 +8,36 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Component;
 
-import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
-@Slf4j
+/**
+ * Supplies created_by/updated_by: the id of the authenticated user, or the
+ * system user for writes made outside a request (scheduled jobs, sign-up).
+ *
+ * Runs for every audited insert and update, so the system user path returns
+ * one shared Mono without touching the security context chain or logging.
+ */
 @Component
-public class SecurityAuditorAware implements ReactiveAuditorAware<UUID> {@Override
+public class SecurityAuditorAware implements ReactiveAuditorAware<String> {
 
-    public Mono<UUID> getCurrentAuditor() {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(SecurityContext::getAuthentication)
-                .filter(Authentication::isAuthenticated)
-                .map(Authentication::getPrincipal)
-                .cast(UUID.class)
-                .doOnNext(userId -> log.debug("Current auditor: {}", userId))
-                .switchIfEmpty(Mono.defer(() ->{
-                    log.debug("No authentication context, using system user for Audit");
-                    return Mono.just(UUID.fromString("00000000-0000-0000-0000-000000000000"));
-                }));
-    }
+    public static final String SYSTEM_USER = "00000000-0000-0000-0000-000000000000";
+
+    private static final Mono<String> SYSTEM_AUDITOR = Mono.just(SYSTEM_USER);
 
+    @Override
+    public Mono<String> getCurrentAuditor() {
+        return Mono.deferContextual(context -> {
+            // ReactiveSecurityContextHolder stores its context under SecurityContext.class
+            if (!context.hasKey(SecurityContext.class)) {
+                return SYSTEM_AUDITOR;
+            }
+            return ReactiveSecurityContextHolder.getContext()
+                    .map(SecurityContext::getAuthentication)
+                    .filter(Authentication::isAuthenticated)
+                    .mapNotNull(authentication -> authentication.getPrincipal() instanceof UUID userId
+                            ? userId.toString()
+                            : null)
+                    .switchIfEmpty(SYSTEM_AUDITOR);
+        });
+    }
 }
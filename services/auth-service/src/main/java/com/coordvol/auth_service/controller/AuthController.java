@@ -0,0 +1,83 @@
+package com.coordvol.auth_service.controller;
+
+import java.net.InetSocketAddress;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coordvol.auth_service.dto.ChangePasswordRequestDTO;
+import com.coordvol.auth_service.dto.CurrentUserResponseDTO;
+import com.coordvol.auth_service.dto.LoginRequestDTO;
+import com.coordvol.auth_service.dto.LoginResponseDTO;
+import com.coordvol.auth_service.dto.RefreshTokenRequestDTO;
+import com.coordvol.auth_service.dto.RegisterRequestDTO;
+import com.coordvol.auth_service.dto.RegisterResponseDTO;
+import com.coordvol.auth_service.service.AuthService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/login")
+    public Mono<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO request, ServerHttpRequest httpRequest) {
+        return authService.login(request, clientAddress(httpRequest));
+    }
+
+    @PostMapping("/refresh")
+    public Mono<LoginResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequestDTO request) {
+        return authService.refreshToken(request.getRefreshToken());
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> logout(Authentication authentication,
+            @Valid @RequestBody(required = false) RefreshTokenRequestDTO request) {
+        String refreshToken = request != null ? request.getRefreshToken() : null;
+        return authService.logout((String) authentication.getCredentials(), refreshToken);
+    }
+
+    @PostMapping("/password")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> changePassword(Authentication authentication,
+            @Valid @RequestBody ChangePasswordRequestDTO request) {
+        return authService.changePassword((UUID) authentication.getPrincipal(), request);
+    }
+
+    @GetMapping("/me")
+    public Mono<CurrentUserResponseDTO> me(Authentication authentication) {
+        return authService.currentUser((UUID) authentication.getPrincipal());
+    }
+
+    @PostMapping("/register")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<RegisterResponseDTO> register(@Valid @RequestBody RegisterRequestDTO request) {
+        return authService.register(request);
+    }
+
+    /**
+     * The peer address; behind a trusted proxy set server.forward-headers-strategy
+     * so it is taken from X-Forwarded-For instead.
+     */
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+}
@@ -0,0 +1,122 @@
+package com.coordvol.auth_service.controller;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.coordvol.auth_service.security.SigningKeyRing;
+import com.coordvol.auth_service.security.SigningKeyRing.SigningKey;
+
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Publishes the token verification keys so other services verify access
+ * tokens locally. Public and cacheable; the ETag changes only when the set
+ * of published keys does.
+ */
+@RestController
+public class JwksController {
+
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private final SigningKeyRing keyRing;
+    private final JsonMapper jsonMapper;
+    private final Clock clock;
+    private final CacheControl cacheControl;
+
+    private volatile Jwks cached;
+
+    public JwksController(SigningKeyRing keyRing, JsonMapper jsonMapper, Clock clock,
+            @Value("${jwt.jwks.max-age:15m}") Duration maxAge) {
+        this.keyRing = keyRing;
+        this.jsonMapper = jsonMapper;
+        this.clock = clock;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<String>> jwks(ServerWebExchange exchange) {
+        Jwks jwks = current();
+        if (exchange.checkNotModified(jwks.etag())) {
+            // 304 and ETag are already set on the response
+            exchange.getResponse().getHeaders().setCacheControl(cacheControl);
+            return Mono.empty();
+        }
+        return Mono.just(ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(jwks.etag())
+                .body(jwks.json()));
+    }
+
+    private Jwks current() {
+        List<SigningKey> published = keyRing.publishedKeys(clock.instant());
+        List<String> kids = published.stream().map(SigningKey::kid).toList();
+        Jwks jwks = cached;
+        if (jwks == null || !jwks.kids().equals(kids)) {
+            jwks = render(kids, published);
+            cached = jwks;
+        }
+        return jwks;
+    }
+
+    private Jwks render(List<String> kids, List<SigningKey> published) {
+        List<Map<String, String>> keys = published.stream().map(JwksController::toJwk).toList();
+        String json = jsonMapper.writeValueAsString(Map.of("keys", keys));
+        return new Jwks(kids, json, etag(json));
+    }
+
+    private static Map<String, String> toJwk(SigningKey key) {
+        ECPublicKey publicKey = key.publicKey();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * RFC 7518 wants each coordinate as exactly 32 unsigned big-endian bytes;
+     * BigInteger may add a sign byte or drop leading zeros.
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(bytes.length, P256_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static String etag(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Jwks(List<String> kids, String json, String etag) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.coordvol.auth_service.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+import com.coordvol.auth_service.dto.TokenIntrospectionRequestDTO;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.service.TokenIntrospectionService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+/**
+ * Batch token introspection for the API gateway. Callers authenticate with the
+ * shared auth.introspection.client-secret; the endpoint is disabled while it
+ * is not set.
+ */
+@RestController
+@RequestMapping("/auth")
+public class TokenIntrospectionController {
+
+    private static final String CLIENT_SECRET_HEADER = "X-Introspection-Secret";
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final byte[] clientSecret;
+
+    public TokenIntrospectionController(
+            TokenIntrospectionService tokenIntrospectionService,
+            @Value("${auth.introspection.client-secret:}") String clientSecret) {
+        this.tokenIntrospectionService = tokenIntrospectionService;
+        this.clientSecret = clientSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/introspect")
+    public Mono<List<TokenIntrospectionDTO>> introspect(
+            @RequestHeader(value = CLIENT_SECRET_HEADER, required = false) String presentedSecret,
+            @Valid @RequestBody TokenIntrospectionRequestDTO request) {
+        if (!isAuthorized(presentedSecret)) {
+            return Mono.error(new UnauthorizedException("Invalid introspection client secret"));
+        }
+        return tokenIntrospectionService.introspect(request.getTokens());
+    }
+
+    private boolean isAuthorized(String presentedSecret) {
+        return clientSecret.length > 0
+                && presentedSecret != null
+                && MessageDigest.isEqual(clientSecret, presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,82 @@
+package com.coordvol.auth_service.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coordvol.auth_service.dto.BulkStatusUpdateRequestDTO;
+import com.coordvol.auth_service.dto.BulkStatusUpdateResponseDTO;
+import com.coordvol.auth_service.dto.BulkUserResultDTO;
+import com.coordvol.auth_service.dto.CreateUserRequestDTO;
+import com.coordvol.auth_service.dto.UserStatusResponseDTO;
+import com.coordvol.auth_service.dto.UserStatusUpdateRequestDTO;
+import com.coordvol.auth_service.service.BulkUserProvisioningService;
+import com.coordvol.auth_service.service.UserStatusService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Admin-only user management endpoints (see SecurityConfig).
+ */
+@RestController
+@RequestMapping("/auth/users")
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final BulkUserProvisioningService bulkUserProvisioningService;
+    private final UserStatusService userStatusService;
+
+    /**
+     * Bulk create from NDJSON, one CreateUserRequestDTO per line. Results are
+     * streamed back as NDJSON in request order.
+     */
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkUserResultDTO> bulkCreate(@RequestBody Flux<CreateUserRequestDTO> requests) {
+        return bulkUserProvisioningService.createUsers(requests);
+    }
+
+    /**
+     * Bulk create from CSV (RFC 4180 quoting, one record per line) with columns
+     * email,password,role[,firstName,lastName,language]. A header row is skipped.
+     */
+    @PostMapping(value = "/bulk",
+            consumes = TEXT_CSV_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkUserResultDTO> bulkCreateCsv(@RequestBody Flux<String> lines) {
+        return bulkUserProvisioningService.createUsersFromCsv(lines);
+    }
+
+    /**
+     * Bulk status change for a list of user ids or a role / created-before filter.
+     * The calling admin is never included.
+     */
+    @PatchMapping("/status")
+    public Mono<BulkStatusUpdateResponseDTO> bulkUpdateStatus(Authentication authentication,
+            @Valid @RequestBody BulkStatusUpdateRequestDTO request) {
+        return userStatusService.bulkUpdateStatus((UUID) authentication.getPrincipal(), request);
+    }
+
+    /**
+     * Changes one user's status. Tokens already issued to the user stop being
+     * accepted (token epoch bump).
+     */
+    @PatchMapping("/{userId}/status")
+    public Mono<UserStatusResponseDTO> updateStatus(
+            @PathVariable UUID userId, @Valid @RequestBody UserStatusUpdateRequestDTO request) {
+        return userStatusService.updateStatus(userId, request);
+    }
+}
@@ -1,6 +1,6 @@
 package com.coordvol.auth_service.domain.entity;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.util.UUID;
 
 import org.springframework.data.annotation.Id;
@@ -32,5 +32,12 @@ public class AuthUser extends Auditable {
     private Role role;
     @Builder.Default
     private UserStatus status = UserStatus.ACTIVE;
-    private LocalDateTime lastLogin;
+    @Column("last_login_at")
+    private Instant lastLogin;
+    @Column("token_epoch")
+    private int tokenEpoch;
+    @Column("failed_login_attempts")
+    private int failedLoginAttempts;
+    @Column("locked_until")
+    private Instant lockedUntil;
 }
\ No newline at end of file
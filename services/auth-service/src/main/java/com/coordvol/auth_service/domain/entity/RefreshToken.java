@@ -0,0 +1,44 @@
+package com.coordvol.auth_service.domain.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored refresh token. Only the SHA-256 digest of the opaque token is kept.
+ *
+ * All tokens obtained by rotating the same login share a familyId, so reuse of
+ * an already rotated token revokes the whole family.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("auth_refresh_tokens")
+public class RefreshToken {
+
+    @Id
+    private UUID id;
+    @Column("token_hash")
+    private String tokenHash;
+    @Column("user_id")
+    private UUID userId;
+    @Column("family_id")
+    private UUID familyId;
+    @Column("expires_at")
+    private Instant expiresAt;
+    @Column("created_at")
+    private Instant createdAt;
+    @Column("used_at")
+    private Instant usedAt;
+    @Column("revoked_at")
+    private Instant revokedAt;
+}
@@ -0,0 +1,28 @@
+package com.coordvol.auth_service.domain.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("auth_revoked_tokens")
+public class RevokedToken {
+
+    @Id
+    private UUID jti;
+    @Column("expires_at")
+    private Instant expiresAt;
+    @Column("revoked_at")
+    private Instant revokedAt;
+}
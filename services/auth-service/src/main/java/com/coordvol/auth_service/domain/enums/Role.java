@@ -1,9 +1,29 @@
 package com.coordvol.auth_service.domain.enums;
 
 public enum Role {
-    ADMIN, 
-    COORDINATOR, 
-    VOLUNTEER;
+    ADMIN("A"),
+    COORDINATOR("C"),
+    VOLUNTEER("V");
+
+    // One-letter form used by compact access tokens
+    private final String code;
+
+    Role(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static Role fromCode(String code) {
+        for (Role role : values()) {
+            if (role.code.equals(code)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("Unknown role code: " + code);
+    }
 
     public static boolean isValidRegistrationRole(Role role) {
         return role == COORDINATOR || role == VOLUNTEER;
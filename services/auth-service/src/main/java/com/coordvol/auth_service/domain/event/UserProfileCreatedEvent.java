@@ -0,0 +1,19 @@
+package com.coordvol.auth_service.domain.event;
+
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Language;
+
+/**
+ * Emitted on registration so the User Service creates the matching profile.
+ * Field names follow the POST /users request body of the User Service.
+ */
+public record UserProfileCreatedEvent(
+        UUID userId,
+        String email,
+        String firstName,
+        String lastName,
+        Language language) {
+
+    public static final String TYPE = "UserProfileCreated";
+}
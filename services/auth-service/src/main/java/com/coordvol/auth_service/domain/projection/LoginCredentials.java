@@ -0,0 +1,19 @@
+package com.coordvol.auth_service.domain.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+/**
+ * Columns of auth_users needed to authenticate a login attempt. lockedUntil is
+ * null unless repeated failures locked the user.
+ */
+public record LoginCredentials(UUID id, String passwordHash, Role role, UserStatus status, int tokenEpoch,
+        int failedLoginAttempts, Instant lockedUntil) {
+
+    public boolean isLocked(Instant now) {
+        return lockedUntil != null && lockedUntil.isAfter(now);
+    }
+}
@@ -0,0 +1,6 @@
+package com.coordvol.auth_service.domain.projection;
+
+import java.util.UUID;
+
+public record UserTokenEpoch(UUID id, int tokenEpoch) {
+}
@@ -0,0 +1,33 @@
+package com.coordvol.auth_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Targets users either by explicit ids or by a filter (role and/or created before).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequestDTO {
+
+    @NotNull(message = "Status is required")
+    private UserStatus status;
+
+    private List<UUID> userIds;
+
+    private Role role;
+
+    private LocalDateTime createdBefore;
+}
@@ -0,0 +1,19 @@
+package com.coordvol.auth_service.dto;
+
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponseDTO {
+    private UserStatus status;
+    // Number of ids sent, null when a filter was used
+    private Integer requested;
+    private long updated;
+}
@@ -0,0 +1,40 @@
+package com.coordvol.auth_service.dto;
+
+import com.coordvol.auth_service.domain.enums.Language;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.util.EmailNormalizer;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUserRequestDTO {
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    @Pattern(regexp = EmailNormalizer.ASCII_ONLY, message = "Email must only contain ASCII characters")
+    private String email;
+
+    @NotBlank(message = "Password is required")
+    @Size(min = 6, message = "Password must be at least 6 characters")
+    private String password;
+
+    @NotNull(message = "Role is required")
+    private Role role;
+
+    private String firstName;
+
+    private String lastName;
+
+    private Language language;
+}
@@ -0,0 +1,21 @@
+package com.coordvol.auth_service.dto;
+
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrentUserResponseDTO {
+    private UUID userId;
+    private String email;
+    private Role role;
+    private boolean active;
+}
@@ -1,5 +1,7 @@
 package com.coordvol.auth_service.dto;
 
+import java.util.UUID;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,7 +16,7 @@ public class LoginResponseDTO {
     private String refreshToken;
     @Builder.Default
     private String type = "Bearer";
-    private Long userId;
+    private UUID userId;
     private String username;
     private String email;
     private String role;
@@ -2,9 +2,11 @@ package com.coordvol.auth_service.dto;
 
 import com.coordvol.auth_service.domain.enums.Language;
 import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.util.EmailNormalizer;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +21,7 @@ public class RegisterRequestDTO {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
+    @Pattern(regexp = EmailNormalizer.ASCII_ONLY, message = "Email must only contain ASCII characters")
     private String email;
 
     @NotBlank(message = "Password is required")
@@ -0,0 +1,22 @@
+package com.coordvol.auth_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegisterResponseDTO {
+    private UUID userId;
+    private Role role;
+    private boolean active;
+    private LocalDateTime createdAt;
+}
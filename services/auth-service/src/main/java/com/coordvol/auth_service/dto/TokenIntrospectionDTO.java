@@ -0,0 +1,28 @@
+package com.coordvol.auth_service.dto;
+
+import java.util.Date;
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result for one token, in request order. Only active is set for tokens that
+ * failed verification.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDTO {
+    private boolean active;
+    private UUID userId;
+    private Role role;
+    private Date expiresAt;
+}
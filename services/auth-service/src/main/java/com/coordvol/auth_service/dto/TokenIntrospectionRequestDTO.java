@@ -0,0 +1,20 @@
+package com.coordvol.auth_service.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequestDTO {
+
+    // Upper bound is auth.introspection.max-batch-size, checked by the service
+    @NotEmpty(message = "Tokens are required")
+    private List<String> tokens;
+}
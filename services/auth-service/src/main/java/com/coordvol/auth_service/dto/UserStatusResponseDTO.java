@@ -0,0 +1,19 @@
+package com.coordvol.auth_service.dto;
+
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatusResponseDTO {
+    private UUID userId;
+    private UserStatus status;
+}
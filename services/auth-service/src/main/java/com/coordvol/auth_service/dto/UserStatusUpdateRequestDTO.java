@@ -0,0 +1,19 @@
+package com.coordvol.auth_service.dto;
+
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatusUpdateRequestDTO {
+
+    @NotNull(message = "Status is required")
+    private UserStatus status;
+}
@@ -0,0 +1,6 @@
+package com.coordvol.auth_service.outbox;
+
+import java.util.UUID;
+
+public record OutboxMessage(long id, UUID aggregateId, String eventType, String payload, int attempts) {
+}
@@ -0,0 +1,129 @@
+package com.coordvol.auth_service.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coordvol.auth_service.client.UserServiceClient;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Drains auth_outbox in batches and delivers each event to the User Service.
+ *
+ * Delivered events are deleted. Failed ones are rescheduled with exponential
+ * backoff capped at auth.outbox.max-backoff, so a User Service outage delays
+ * profile creation without affecting registration. After
+ * auth.outbox.max-attempts failures an event is dead-lettered and no longer
+ * retried.
+ *
+ * A batch is published outside any transaction, publish-concurrency events at
+ * a time, under a lease sized for that: one publish-timeout per round of
+ * concurrent publishes plus a margin for settling the rows. Delivery is at
+ * least once: a row whose lease ran out before it was settled may be
+ * published again by another run.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final Duration LEASE_MARGIN = Duration.ofSeconds(5);
+
+    private final OutboxRepository outboxRepository;
+    private final UserServiceClient userServiceClient;
+    private final JsonMapper jsonMapper;
+    private final Clock clock;
+    private final int batchSize;
+    private final int publishConcurrency;
+    private final Duration publishTimeout;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    public OutboxRelay(
+            OutboxRepository outboxRepository,
+            UserServiceClient userServiceClient,
+            JsonMapper jsonMapper,
+            Clock clock,
+            @Value("${auth.outbox.batch-size:100}") int batchSize,
+            @Value("${auth.outbox.publish-concurrency:10}") int publishConcurrency,
+            @Value("${auth.outbox.publish-timeout:5s}") Duration publishTimeout,
+            @Value("${auth.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${auth.outbox.max-backoff:5m}") Duration maxBackoff,
+            @Value("${auth.outbox.max-attempts:20}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.userServiceClient = userServiceClient;
+        this.jsonMapper = jsonMapper;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.publishConcurrency = publishConcurrency;
+        this.publishTimeout = publishTimeout;
+        int rounds = (batchSize + publishConcurrency - 1) / publishConcurrency;
+        this.lease = publishTimeout.multipliedBy(rounds).plus(LEASE_MARGIN);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.outbox.poll-interval:1s}")
+    public Mono<Void> relayPending() {
+        return Mono.defer(() -> {
+                    Instant now = clock.instant();
+                    return outboxRepository.claimBatch(now, now.plus(lease), batchSize)
+                            .flatMap(this::deliver, publishConcurrency)
+                            .then();
+                })
+                .onErrorResume(e -> {
+                    log.warn("Outbox relay run failed: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> deliver(OutboxMessage message) {
+        return Mono.defer(() -> publish(message))
+                .timeout(publishTimeout)
+                .then(Mono.defer(() -> outboxRepository.delete(message.id())))
+                .onErrorResume(e -> {
+                    int attempts = message.attempts() + 1;
+                    if (attempts >= maxAttempts) {
+                        log.error("Outbox event {} ({}) failed {} times, dead-lettering it: {}",
+                                message.id(), message.eventType(), attempts, e.getMessage());
+                        return outboxRepository.deadLetter(message.id(), attempts, clock.instant(), describe(e));
+                    }
+                    Duration backoff = backoff(attempts);
+                    log.warn("Outbox event {} ({}) failed on attempt {}, retrying in {}: {}",
+                            message.id(), message.eventType(), attempts, backoff, e.getMessage());
+                    return outboxRepository.reschedule(
+                            message.id(), attempts, clock.instant().plus(backoff), describe(e));
+                });
+    }
+
+    private Mono<Void> publish(OutboxMessage message) {
+        if (!UserProfileCreatedEvent.TYPE.equals(message.eventType())) {
+            return Mono.error(new IllegalStateException("Unknown outbox event type " + message.eventType()));
+        }
+        UserProfileCreatedEvent event = jsonMapper.readValue(message.payload(), UserProfileCreatedEvent.class);
+        return userServiceClient.createUserProfile(
+                event.userId(), event.firstName(), event.lastName(), event.email(), event.language());
+    }
+
+    Duration backoff(int attempts) {
+        // Shift capped to avoid overflow, the max backoff applies long before that
+        long millis = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        return millis >= maxBackoff.toMillis() ? maxBackoff : Duration.ofMillis(millis);
+    }
+
+    private static String describe(Throwable error) {
+        String description = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+}
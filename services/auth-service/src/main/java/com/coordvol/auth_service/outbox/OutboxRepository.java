@@ -0,0 +1,115 @@
+package com.coordvol.auth_service.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Access to auth_outbox. append() must run in the same transaction as the
+ * state change it describes. claimBatch() leases rows in one statement that
+ * commits on its own, so no lock is held while events are published; delete(),
+ * reschedule() and deadLetter() then settle each row in its own statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT = """
+            INSERT INTO auth_outbox (aggregate_id, event_type, payload)
+            VALUES (:aggregateId, :eventType, CAST(:payload AS jsonb))
+            """;
+
+    // SKIP LOCKED lets several relay instances claim without blocking each other; moving
+    // next_attempt_at to the lease end hides the rows from other claims until the lease runs out
+    private static final String CLAIM_BATCH = """
+            WITH claimed AS (
+                UPDATE auth_outbox
+                SET next_attempt_at = :leaseUntil
+                WHERE id IN (
+                    SELECT id
+                    FROM auth_outbox
+                    WHERE dead_lettered_at IS NULL
+                      AND next_attempt_at <= :now
+                    ORDER BY id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, aggregate_id, event_type, payload::text AS payload, attempts)
+            SELECT * FROM claimed ORDER BY id
+            """;
+
+    private static final String DELETE = "DELETE FROM auth_outbox WHERE id = :id";
+
+    private static final String RESCHEDULE = """
+            UPDATE auth_outbox
+            SET attempts = :attempts, next_attempt_at = :nextAttemptAt, last_error = :lastError
+            WHERE id = :id
+            """;
+
+    private static final String DEAD_LETTER = """
+            UPDATE auth_outbox
+            SET attempts = :attempts, dead_lettered_at = :deadLetteredAt, last_error = :lastError
+            WHERE id = :id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> append(UUID aggregateId, String eventType, String payload) {
+        return databaseClient.sql(INSERT)
+                .bind("aggregateId", aggregateId)
+                .bind("eventType", eventType)
+                .bind("payload", payload)
+                .then();
+    }
+
+    /**
+     * Claims up to limit due rows until leaseUntil. A relay that dies
+     * mid-batch leaves its rows to be claimed again once the lease ends.
+     */
+    public Flux<OutboxMessage> claimBatch(Instant now, Instant leaseUntil, int limit) {
+        return databaseClient.sql(CLAIM_BATCH)
+                .bind("now", now)
+                .bind("leaseUntil", leaseUntil)
+                .bind("limit", limit)
+                .map(row -> new OutboxMessage(
+                        row.get("id", Long.class),
+                        row.get("aggregate_id", UUID.class),
+                        row.get("event_type", String.class),
+                        row.get("payload", String.class),
+                        row.get("attempts", Integer.class)))
+                .all();
+    }
+
+    public Mono<Void> delete(long id) {
+        return databaseClient.sql(DELETE)
+                .bind("id", id)
+                .then();
+    }
+
+    public Mono<Void> reschedule(long id, int attempts, Instant nextAttemptAt, String lastError) {
+        return databaseClient.sql(RESCHEDULE)
+                .bind("id", id)
+                .bind("attempts", attempts)
+                .bind("nextAttemptAt", nextAttemptAt)
+                .bind("lastError", lastError)
+                .then();
+    }
+
+    /**
+     * Stops retrying the row. It stays in the table with its last error until
+     * someone deletes it or clears dead_lettered_at to retry it.
+     */
+    public Mono<Void> deadLetter(long id, int attempts, Instant deadLetteredAt, String lastError) {
+        return databaseClient.sql(DEAD_LETTER)
+                .bind("id", id)
+                .bind("attempts", attempts)
+                .bind("deadLetteredAt", deadLetteredAt)
+                .bind("lastError", lastError)
+                .then();
+    }
+}
@@ -1,11 +1,97 @@
 package com.coordvol.auth_service.repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
-import com.coordvol.auth_service.entity.AuthUser;
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.projection.LoginCredentials;
+import com.coordvol.auth_service.domain.projection.UserTokenEpoch;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface AuthUserRepository extends ReactiveCrudRepository<AuthUser, Long> {
+public interface AuthUserRepository extends ReactiveCrudRepository<AuthUser, UUID>, AuthUserRepositoryCustom {
+    // Email lookups match the lower(email) unique index, callers pass EmailNormalizer output
+    @Query("SELECT * FROM auth_users WHERE lower(email) = lower(:email)")
     Mono<AuthUser> findByEmail(String email);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM auth_users WHERE lower(email) = lower(:email))")
+    Mono<Boolean> existsByEmail(String email);
+
+    /**
+     * Login lookup that reads only the columns needed to authenticate instead of
+     * hydrating the full entity with its audit fields.
+     */
+    @Query("SELECT id, password_hash, role, status, token_epoch, failed_login_attempts, locked_until FROM auth_users WHERE lower(email) = lower(:email)")
+    Mono<LoginCredentials> findCredentialsByEmail(String email);
+
+    @Query("SELECT id, password_hash, role, status, token_epoch, failed_login_attempts, locked_until FROM auth_users WHERE id = :id")
+    Mono<LoginCredentials> findCredentialsById(UUID id);
+
+    /**
+     * Replaces the stored hash only if it still equals currentHash, so a password
+     * change that happened in between is never overwritten.
+     */
+    @Modifying
+    @Query("UPDATE auth_users SET password_hash = :newHash WHERE id = :id AND password_hash = :currentHash")
+    Mono<Integer> updatePasswordHash(UUID id, String currentHash, String newHash);
+
+    /**
+     * Sets a new password chosen by the user and bumps the token epoch so every
+     * access token issued with the old password stops being accepted; the V6
+     * trigger tells every instance. Unlike updatePasswordHash, which only
+     * re-encodes the same password. Like it, only replaces currentHash, so of
+     * two changes made with the same old password only the first applies.
+     */
+    @Modifying
+    @Query("""
+            UPDATE auth_users SET password_hash = :newHash, token_epoch = token_epoch + 1,
+                updated_at = :now, updated_by = CAST(:id AS varchar)
+            WHERE id = :id AND password_hash = :currentHash
+            """)
+    Mono<Integer> changePassword(UUID id, String currentHash, String newHash, LocalDateTime now);
+
+    /**
+     * Counts a failed login. From the threshold-th consecutive failure on the
+     * user is locked for baseSeconds, doubling with every further failure up
+     * to maxSeconds.
+     */
+    @Modifying
+    @Query("""
+            UPDATE auth_users SET failed_login_attempts = failed_login_attempts + 1,
+                locked_until = CASE WHEN failed_login_attempts + 1 >= :threshold
+                    THEN CAST(:now AS timestamptz) + LEAST(:maxSeconds,
+                        :baseSeconds * power(2, LEAST(failed_login_attempts + 1 - :threshold, 30))) * interval '1 second'
+                    ELSE locked_until END
+            WHERE id = :id
+            """)
+    Mono<Integer> recordFailedLogin(UUID id, Instant now, int threshold, long baseSeconds, long maxSeconds);
+
+    @Modifying
+    @Query("UPDATE auth_users SET failed_login_attempts = 0, locked_until = NULL WHERE id = :id AND failed_login_attempts > 0")
+    Mono<Integer> resetFailedLogins(UUID id);
+
+    /**
+     * Locks the rows of the active admins until the end of the transaction, so
+     * concurrent status changes that may deactivate admins run one after another.
+     */
+    @Query("SELECT id FROM auth_users WHERE role = 'ADMIN' AND status = 'ACTIVE' FOR UPDATE")
+    Flux<UUID> lockActiveAdmins();
+
+    @Query("SELECT count(*) FROM auth_users WHERE role = 'ADMIN' AND status = 'ACTIVE'")
+    Mono<Long> countActiveAdmins();
+
+    @Query("SELECT token_epoch FROM auth_users WHERE id = :id")
+    Mono<Integer> findTokenEpochById(UUID id);
+
+    /**
+     * Users whose tokens were ever invalidated; every other user is at epoch 0.
+     */
+    @Query("SELECT id, token_epoch FROM auth_users WHERE token_epoch > 0")
+    Flux<UserTokenEpoch> findBumpedTokenEpochs();
 }
@@ -0,0 +1,64 @@
+package com.coordvol.auth_service.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AuthUserRepositoryCustom {
+
+    /**
+     * Most rows insertAllIfEmailAbsent can take: PostgreSQL allows 65,535 bind
+     * parameters per statement, and the insert binds four per row plus two shared.
+     */
+    int MAX_INSERT_BATCH_SIZE = (65_535 - 2) / 4;
+
+    /**
+     * Inserts the user in a single round-trip unless the email is already taken.
+     *
+     * @return the stored user, or empty when another row already owns the email
+     */
+    Mono<AuthUser> insertIfEmailAbsent(AuthUser user);
+
+    /**
+     * Multi-row variant of insertIfEmailAbsent, one statement for the whole batch
+     * of at most {@link #MAX_INSERT_BATCH_SIZE} users.
+     *
+     * @return the users that were stored; rows whose email was taken are skipped
+     */
+    Flux<AuthUser> insertAllIfEmailAbsent(List<AuthUser> users);
+
+    /**
+     * Sets the status of the given users with one UPDATE per chunk of ids.
+     * Users already in that status are not touched.
+     *
+     * @return number of rows changed
+     */
+    Mono<Long> updateStatusByIds(List<UUID> ids, UserStatus status, int chunkSize);
+
+    /**
+     * Sets the status of every user matching the filter, chunkSize rows per
+     * statement until no row is left. Null filter values are ignored; the user
+     * excludedId (the admin making the change) is never touched.
+     *
+     * @return number of rows changed
+     */
+    Mono<Long> updateStatusByFilter(Role role, LocalDateTime createdBefore, UUID excludedId, UserStatus status,
+            int chunkSize);
+
+    /**
+     * Sets last_login_at from the given times with one UPDATE ... FROM (VALUES ...)
+     * per chunk of users. A stored time that is already later is kept.
+     *
+     * @return number of rows changed
+     */
+    Mono<Long> updateLastLogins(Map<UUID, Instant> lastLogins, int chunkSize);
+}
@@ -0,0 +1,184 @@
+package com.coordvol.auth_service.repository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class AuthUserRepositoryCustomImpl implements AuthUserRepositoryCustom {
+
+    // Conflict target is the lower(email) unique index from V2
+    private static final String INSERT_IF_EMAIL_ABSENT = """
+            INSERT INTO auth_users (email, password_hash, role, status, created_at, updated_at, created_by, updated_by)
+            VALUES (:email, :passwordHash, :role, :status, :now, :now, :auditor, :auditor)
+            ON CONFLICT ((lower(email))) DO NOTHING
+            RETURNING *
+            """;
+
+    // Status changes bump token_epoch so tokens issued before stop being accepted
+    private static final String UPDATE_STATUS_BY_IDS = """
+            UPDATE auth_users SET status = :status, token_epoch = token_epoch + 1, updated_at = :now, updated_by = :auditor
+            WHERE id = ANY(:ids) AND status <> :status
+            RETURNING id
+            """;
+
+    private final R2dbcEntityTemplate template;
+    private final ReactiveAuditorAware<String> auditorAware;
+    private final Clock clock;
+
+    @Override
+    public Mono<AuthUser> insertIfEmailAbsent(AuthUser user) {
+        // Custom SQL bypasses the auditing callbacks, so audit columns are filled here
+        return currentAuditor()
+                .flatMap(auditor -> template.getDatabaseClient().sql(INSERT_IF_EMAIL_ABSENT)
+                        .bind("email", user.getEmail())
+                        .bind("passwordHash", user.getPasswordHash())
+                        .bind("role", user.getRole().name())
+                        .bind("status", user.getStatus().name())
+                        .bind("now", LocalDateTime.now(clock))
+                        .bind("auditor", auditor)
+                        .map((row, metadata) -> template.getConverter().read(AuthUser.class, row, metadata))
+                        .one());
+    }
+
+    @Override
+    public Flux<AuthUser> insertAllIfEmailAbsent(List<AuthUser> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO auth_users (email, password_hash, role, status, created_at, updated_at, created_by, updated_by) VALUES ");
+        for (int i = 0; i < users.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:email").append(i)
+                    .append(", :passwordHash").append(i)
+                    .append(", :role").append(i)
+                    .append(", :status").append(i)
+                    .append(", :now, :now, :auditor, :auditor)");
+        }
+        sql.append(" ON CONFLICT ((lower(email))) DO NOTHING RETURNING *");
+
+        return currentAuditor()
+                .flatMapMany(auditor -> {
+                    DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString())
+                            .bind("now", LocalDateTime.now(clock))
+                            .bind("auditor", auditor);
+                    for (int i = 0; i < users.size(); i++) {
+                        AuthUser user = users.get(i);
+                        spec = spec.bind("email" + i, user.getEmail())
+                                .bind("passwordHash" + i, user.getPasswordHash())
+                                .bind("role" + i, user.getRole().name())
+                                .bind("status" + i, user.getStatus().name());
+                    }
+                    return spec.map((row, metadata) -> template.getConverter().read(AuthUser.class, row, metadata))
+                            .all();
+                });
+    }
+
+    @Override
+    public Mono<Long> updateStatusByIds(List<UUID> ids, UserStatus status, int chunkSize) {
+        return currentAuditor().flatMap(auditor -> Flux.range(0, (ids.size() + chunkSize - 1) / chunkSize)
+                .map(chunk -> ids.subList(chunk * chunkSize, Math.min(ids.size(), (chunk + 1) * chunkSize)))
+                .concatMap(chunk -> template.getDatabaseClient().sql(UPDATE_STATUS_BY_IDS)
+                        .bind("ids", chunk.toArray(new UUID[0]))
+                        .bind("status", status.name())
+                        .bind("now", LocalDateTime.now(clock))
+                        .bind("auditor", auditor)
+                        .map(row -> row.get("id", UUID.class))
+                        .all()
+                        .count())
+                .reduce(0L, Long::sum));
+    }
+
+    @Override
+    public Mono<Long> updateStatusByFilter(Role role, LocalDateTime createdBefore, UUID excludedId, UserStatus status,
+            int chunkSize) {
+        StringBuilder sql = new StringBuilder("""
+                UPDATE auth_users SET status = :status, token_epoch = token_epoch + 1, updated_at = :now, updated_by = :auditor
+                WHERE id IN (SELECT id FROM auth_users WHERE status <> :status""");
+        if (role != null) {
+            sql.append(" AND role = :role");
+        }
+        if (createdBefore != null) {
+            sql.append(" AND created_at < :createdBefore");
+        }
+        if (excludedId != null) {
+            sql.append(" AND id <> :excludedId");
+        }
+        // Updated rows drop out of the subquery, so each round picks the next chunk
+        sql.append(" LIMIT :limit) RETURNING id");
+
+        return currentAuditor().flatMap(auditor -> {
+            Mono<Long> chunk = Mono.defer(() -> {
+                DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString())
+                        .bind("status", status.name())
+                        .bind("now", LocalDateTime.now(clock))
+                        .bind("auditor", auditor)
+                        .bind("limit", chunkSize);
+                if (role != null) {
+                    spec = spec.bind("role", role.name());
+                }
+                if (createdBefore != null) {
+                    spec = spec.bind("createdBefore", createdBefore);
+                }
+                if (excludedId != null) {
+                    spec = spec.bind("excludedId", excludedId);
+                }
+                return spec.map(row -> row.get("id", UUID.class)).all().count();
+            });
+            return chunk
+                    .expand(updated -> updated == chunkSize ? chunk : Mono.empty())
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    @Override
+    public Mono<Long> updateLastLogins(Map<UUID, Instant> lastLogins, int chunkSize) {
+        List<Map.Entry<UUID, Instant>> entries = new ArrayList<>(lastLogins.entrySet());
+        return Flux.range(0, (entries.size() + chunkSize - 1) / chunkSize)
+                .map(chunk -> entries.subList(chunk * chunkSize, Math.min(entries.size(), (chunk + 1) * chunkSize)))
+                .concatMap(this::updateLastLoginChunk)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> updateLastLoginChunk(List<Map.Entry<UUID, Instant>> chunk) {
+        // Not a profile change, so updated_at/updated_by stay as they are
+        StringBuilder sql = new StringBuilder("UPDATE auth_users u SET last_login_at = v.at FROM (VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(:id").append(i).append(" AS uuid), CAST(:at").append(i).append(" AS timestamptz))");
+        }
+        sql.append(") AS v(id, at) WHERE u.id = v.id AND (u.last_login_at IS NULL OR u.last_login_at < v.at)");
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            spec = spec.bind("id" + i, chunk.get(i).getKey())
+                    .bind("at" + i, chunk.get(i).getValue());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private Mono<String> currentAuditor() {
+        return auditorAware.getCurrentAuditor();
+    }
+}
@@ -0,0 +1,57 @@
+package com.coordvol.auth_service.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.coordvol.auth_service.domain.entity.RefreshToken;
+
+import reactor.core.publisher.Mono;
+
+public interface RefreshTokenRepository extends ReactiveCrudRepository<RefreshToken, UUID> {
+
+    /**
+     * Marks a live token of an active user as used and returns it, in one
+     * indexed statement. Empty when the token is unknown, expired, revoked or
+     * already used, or its user is not active; the token is then left as it was.
+     */
+    @Query("""
+            UPDATE auth_refresh_tokens t SET used_at = :now
+            FROM auth_users u
+            WHERE t.token_hash = :tokenHash AND t.used_at IS NULL AND t.revoked_at IS NULL AND t.expires_at > :now
+              AND u.id = t.user_id AND u.status = 'ACTIVE'
+            RETURNING t.*
+            """)
+    Mono<RefreshToken> consume(String tokenHash, Instant now);
+
+    Mono<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("UPDATE auth_refresh_tokens SET revoked_at = :now WHERE family_id = :familyId AND revoked_at IS NULL")
+    Mono<Integer> revokeFamily(UUID familyId, Instant now);
+
+    /**
+     * Revokes the family of the given token, provided the token belongs to the user.
+     */
+    @Modifying
+    @Query("""
+            UPDATE auth_refresh_tokens SET revoked_at = :now
+            WHERE family_id = (SELECT family_id FROM auth_refresh_tokens WHERE token_hash = :tokenHash AND user_id = :userId)
+              AND revoked_at IS NULL
+            """)
+    Mono<Integer> revokeFamilyOfToken(UUID userId, String tokenHash, Instant now);
+
+    @Modifying
+    @Query("UPDATE auth_refresh_tokens SET revoked_at = :now WHERE user_id = :userId AND revoked_at IS NULL")
+    Mono<Integer> revokeAllForUser(UUID userId, Instant now);
+
+    @Modifying
+    @Query("""
+            DELETE FROM auth_refresh_tokens
+            WHERE id IN (SELECT id FROM auth_refresh_tokens WHERE expires_at < :now LIMIT :limit)
+            """)
+    Mono<Integer> deleteExpired(Instant now, int limit);
+}
@@ -0,0 +1,52 @@
+package com.coordvol.auth_service.repository;
+
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Marks reads that may be served by the read replica.
+ *
+ * Queries go to the primary unless the subscriber context asks for the
+ * replica, so writes and transactions never need marking. The routing
+ * connection factory (R2dbcConfig) still sends a marked read to the primary
+ * while the replica is too far behind or while the caller is pinned to the
+ * primary because it has just written.
+ */
+public final class ReplicaReads {
+
+    private static final Object PREFER_REPLICA = ReplicaReads.class.getName() + ".preferReplica";
+    private static final Object PIN_PRIMARY = ReplicaReads.class.getName() + ".pinPrimary";
+
+    private ReplicaReads() {
+    }
+
+    /**
+     * Runs the read on the replica when allowed. An empty result is read
+     * again on the primary, so a row written moments ago by another request
+     * is not reported missing.
+     */
+    public static <T> Mono<T> preferReplica(Supplier<Mono<T>> read) {
+        return Mono.defer(read)
+                .contextWrite(context -> context.put(PREFER_REPLICA, Boolean.TRUE))
+                .switchIfEmpty(Mono.defer(read).contextWrite(ReplicaReads::pinToPrimary));
+    }
+
+    /**
+     * Sends every query of the subscription to the primary, even reads marked
+     * with preferReplica (read-your-writes).
+     */
+    public static Context pinToPrimary(Context context) {
+        return context.put(PIN_PRIMARY, Boolean.TRUE);
+    }
+
+    /**
+     * True when the current subscription asked for the replica and is not
+     * pinned to the primary.
+     */
+    public static boolean replicaRequested(ContextView context) {
+        return context.hasKey(PREFER_REPLICA) && !context.hasKey(PIN_PRIMARY);
+    }
+}
@@ -0,0 +1,36 @@
+package com.coordvol.auth_service.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.coordvol.auth_service.domain.entity.RevokedToken;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface RevokedTokenRepository extends ReactiveCrudRepository<RevokedToken, UUID> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO auth_revoked_tokens (jti, expires_at, revoked_at) VALUES (:jti, :expiresAt, :revokedAt)
+            ON CONFLICT (jti) DO NOTHING
+            """)
+    Mono<Integer> insertIfAbsent(UUID jti, Instant expiresAt, Instant revokedAt);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM auth_revoked_tokens WHERE jti = :jti AND expires_at > :now)")
+    Mono<Boolean> isRevoked(UUID jti, Instant now);
+
+    @Query("SELECT * FROM auth_revoked_tokens WHERE expires_at > :now")
+    Flux<RevokedToken> findUnexpired(Instant now);
+
+    @Query("SELECT * FROM auth_revoked_tokens WHERE revoked_at >= :since")
+    Flux<RevokedToken> findRevokedSince(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM auth_revoked_tokens WHERE expires_at < :now")
+    Mono<Integer> deleteExpired(Instant now);
+}
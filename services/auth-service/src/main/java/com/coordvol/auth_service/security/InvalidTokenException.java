@@ -0,0 +1,30 @@
+package com.coordvol.auth_service.security;
+
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.coordvol.auth_service.service.TokenValidationResult;
+
+/**
+ * Authentication failure for a token rejected by JwtService#verifyToken.
+ *
+ * Rejections are expected traffic (expired sessions, token spraying), so no
+ * stack trace is captured.
+ */
+public class InvalidTokenException extends BadCredentialsException {
+
+    private final TokenValidationResult result;
+
+    public InvalidTokenException(TokenValidationResult result) {
+        super("Invalid access token: " + result);
+        this.result = result;
+    }
+
+    public TokenValidationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,66 @@
+package com.coordvol.auth_service.security;
+
+import java.util.List;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.TokenEpochService;
+import com.coordvol.auth_service.service.TokenRevocationService;
+import com.coordvol.auth_service.service.TokenVerification;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Authenticates requests from the bearer access token.
+ *
+ * The principal is the user id (UUID) and the role becomes a ROLE_* authority.
+ * Revoked tokens and tokens from before the user's last status or password
+ * change are rejected; for most tokens neither check leaves memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenEpochService tokenEpochService;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+        return Mono.fromCallable(() -> {
+                    // Typed check so rejected tokens never reach jjwt's exceptions; the claims come with it
+                    TokenVerification verification = jwtService.verifyToken(token);
+                    if (!verification.isValid()) {
+                        throw new InvalidTokenException(verification.result());
+                    }
+                    return verification.claims();
+                })
+                .onErrorMap(e -> !(e instanceof InvalidTokenException),
+                        e -> new BadCredentialsException("Invalid access token", e))
+                .flatMap(claims -> tokenRevocationService.isRevoked(claims)
+                        .flatMap(revoked -> revoked
+                                ? Mono.<TokenClaims>error(new BadCredentialsException("Access token revoked"))
+                                : Mono.just(claims)))
+                .flatMap(claims -> tokenEpochService.isCurrent(claims)
+                        .flatMap(current -> current
+                                ? Mono.just(claims)
+                                : Mono.<TokenClaims>error(new BadCredentialsException("Access token invalidated"))))
+                .map(claims -> toAuthentication(claims, token));
+    }
+
+    private Authentication toAuthentication(TokenClaims claims, String token) {
+        return UsernamePasswordAuthenticationToken.authenticated(
+                claims.userId(),
+                token,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.role().name())));
+    }
+}
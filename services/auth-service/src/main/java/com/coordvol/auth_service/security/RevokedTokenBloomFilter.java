@@ -0,0 +1,80 @@
+package com.coordvol.auth_service.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over revoked token ids (jti).
+ *
+ * mightContain returning false means the token is definitely not revoked and
+ * needs no store lookup; true means "maybe" and must be confirmed against the
+ * revocation store. Bloom filters cannot remove entries, so expired ids are
+ * dropped by rebuilding a fresh filter from the unexpired rows.
+ *
+ * Adds and lookups are lock-free; bits are set with a CAS on the backing words.
+ */
+public final class RevokedTokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    public RevokedTokenBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) >>> 6);
+        this.bits = new AtomicLongArray(Math.max(1, words));
+        this.bitCount = (long) bits.length() << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void add(UUID tokenId) {
+        long h1 = mix(tokenId.getMostSignificantBits());
+        long h2 = mix(tokenId.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+    }
+
+    public boolean mightContain(UUID tokenId) {
+        long h1 = mix(tokenId.getMostSignificantBits());
+        long h2 = mix(tokenId.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = bits.get(index);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(index, word, word | mask));
+    }
+
+    /**
+     * Random UUIDs are already uniform, but tokens may carry other UUID versions,
+     * so each half goes through a 64-bit finalizer before double hashing.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
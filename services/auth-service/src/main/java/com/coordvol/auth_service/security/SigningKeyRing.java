@@ -0,0 +1,70 @@
+package com.coordvol.auth_service.security;
+
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ES256 keys used to sign and verify access tokens, identified by kid.
+ *
+ * Rotation works with overlapping validity: a key is published (JWKS and
+ * verification) from the moment it is configured, starts signing at
+ * activatesAt, and keeps verifying until expiresAt. Configuring the next key
+ * with a future activatesAt lets downstream caches fetch it before the first
+ * token signed with it appears; the old key's expiresAt must outlive the last
+ * token it signed. Keys without a private part only verify.
+ */
+public final class SigningKeyRing {
+
+    public record SigningKey(String kid, ECPublicKey publicKey, PrivateKey privateKey,
+            Instant activatesAt, Instant expiresAt) {
+
+        boolean isPublished(Instant now) {
+            return expiresAt == null || now.isBefore(expiresAt);
+        }
+
+        boolean canSign(Instant now) {
+            return privateKey != null && !now.isBefore(activatesAt) && isPublished(now);
+        }
+    }
+
+    private final List<SigningKey> keys;
+
+    public SigningKeyRing(List<SigningKey> keys) {
+        long distinctKids = keys.stream().map(SigningKey::kid).distinct().count();
+        if (distinctKids != keys.size()) {
+            throw new IllegalArgumentException("Signing key ids must be unique");
+        }
+        this.keys = List.copyOf(keys);
+    }
+
+    public static SigningKeyRing empty() {
+        return new SigningKeyRing(List.of());
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * The most recently activated key able to sign, if any.
+     */
+    public Optional<SigningKey> signingKey(Instant now) {
+        return keys.stream()
+                .filter(key -> key.canSign(now))
+                .max(Comparator.comparing(SigningKey::activatesAt));
+    }
+
+    public Optional<SigningKey> verificationKey(String kid, Instant now) {
+        return keys.stream()
+                .filter(key -> key.kid().equals(kid) && key.isPublished(now))
+                .findFirst();
+    }
+
+    public List<SigningKey> publishedKeys(Instant now) {
+        return keys.stream().filter(key -> key.isPublished(now)).toList();
+    }
+}
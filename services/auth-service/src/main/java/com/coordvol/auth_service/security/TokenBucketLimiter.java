@@ -0,0 +1,66 @@
+package com.coordvol.auth_service.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free token bucket rate limiter over a fixed number of striped slots.
+ *
+ * Each slot is one long holding the bucket's theoretical arrival time (the
+ * GCRA form of a token bucket): a key may proceed while that time is at most
+ * (capacity - 1) refill periods ahead of now, and every acquire moves it one
+ * refill period further. Updates are a CAS on the slot, so there are no locks
+ * and no per-key allocation. Memory is bounded by the slot count; keys that
+ * hash to the same slot share a bucket, which with enough slots only makes
+ * the limit slightly stricter for the unlucky pair.
+ */
+public final class TokenBucketLimiter {
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long refillMillis;
+    private final long burstMillis;
+
+    /**
+     * @param slots        rounded up to a power of two
+     * @param capacity     attempts a key may make in a burst
+     * @param refillPeriod time for one attempt to be regained
+     */
+    public TokenBucketLimiter(int slots, int capacity, Duration refillPeriod) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Capacity and refill period must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.stripes = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.refillMillis = refillPeriod.toMillis();
+        this.burstMillis = refillMillis * (capacity - 1);
+    }
+
+    /**
+     * Takes one token for the key.
+     *
+     * @return 0 when allowed, otherwise the milliseconds until a token is
+     *         available (at least 1)
+     */
+    public long tryAcquire(String key, long nowMillis) {
+        int slot = slot(key);
+        while (true) {
+            long arrival = stripes.get(slot);
+            long start = Math.max(arrival, nowMillis);
+            long wait = start - burstMillis - nowMillis;
+            if (wait > 0) {
+                return wait;
+            }
+            if (stripes.compareAndSet(slot, arrival, start + refillMillis)) {
+                return 0;
+            }
+        }
+    }
+
+    private int slot(String key) {
+        // Spread the bits so similar keys (IPs in one subnet) do not cluster
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,156 @@
+package com.coordvol.auth_service.security;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing map from user id to token epoch, keyed by the two UUID longs
+ * so lookups allocate nothing (no boxed keys or values, no entry objects).
+ *
+ * Epochs only ever grow, so put keeps the larger value; that makes a reload
+ * racing with change notifications safe to apply in any order. Reads are
+ * optimistic and only fall back to the read lock when a write interleaves.
+ * The nil UUID marks empty slots and is never a user id.
+ */
+public final class TokenEpochMap {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+
+    public TokenEpochMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the known epoch, or 0 when the user never had one bumped.
+     */
+    public int get(UUID userId) {
+        long msb = userId.getMostSignificantBits();
+        long lsb = userId.getLeastSignificantBits();
+        long stamp = lock.tryOptimisticRead();
+        int epoch = table.get(msb, lsb);
+        if (lock.validate(stamp)) {
+            return epoch;
+        }
+        stamp = lock.readLock();
+        try {
+            return table.get(msb, lsb);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(UUID userId, int epoch) {
+        long msb = userId.getMostSignificantBits();
+        long lsb = userId.getLeastSignificantBits();
+        if (msb == 0 && lsb == 0) {
+            throw new IllegalArgumentException("Nil UUID is reserved");
+        }
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > table.capacity()) {
+                table = table.resize();
+            }
+            if (table.putMax(msb, lsb, epoch)) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Parallel arrays with linear probing; capacity is a power of two and kept
+     * at most half full so probes stay short.
+     */
+    private static final class Table {
+        private final long[] msbs;
+        private final long[] lsbs;
+        private final int[] epochs;
+        private final int mask;
+
+        Table(int capacity) {
+            this.msbs = new long[capacity];
+            this.lsbs = new long[capacity];
+            this.epochs = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        int capacity() {
+            return epochs.length;
+        }
+
+        int get(long msb, long lsb) {
+            int slot = slot(msb, lsb);
+            // Bounded so an optimistic read over a table being written cannot spin
+            for (int probes = 0; probes <= mask; probes++) {
+                long slotMsb = msbs[slot];
+                long slotLsb = lsbs[slot];
+                if (slotMsb == msb && slotLsb == lsb) {
+                    return epochs[slot];
+                }
+                if (slotMsb == 0 && slotLsb == 0) {
+                    return 0;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return 0;
+        }
+
+        /**
+         * Returns true when a new key was inserted.
+         */
+        boolean putMax(long msb, long lsb, int epoch) {
+            int slot = slot(msb, lsb);
+            while (true) {
+                if (msbs[slot] == msb && lsbs[slot] == lsb) {
+                    epochs[slot] = Math.max(epochs[slot], epoch);
+                    return false;
+                }
+                if (msbs[slot] == 0 && lsbs[slot] == 0) {
+                    // Value first so a concurrent optimistic reader never pairs the key with a stale value
+                    epochs[slot] = epoch;
+                    lsbs[slot] = lsb;
+                    msbs[slot] = msb;
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        Table resize() {
+            Table resized = new Table(capacity() * 2);
+            for (int i = 0; i < epochs.length; i++) {
+                if (msbs[i] != 0 || lsbs[i] != 0) {
+                    resized.putMax(msbs[i], lsbs[i], epochs[i]);
+                }
+            }
+            return resized;
+        }
+
+        private int slot(long msb, long lsb) {
+            long hash = (msb ^ lsb) * 0x9e3779b97f4a7c15L;
+            return (int) (hash >>> 32) & mask;
+        }
+    }
+}
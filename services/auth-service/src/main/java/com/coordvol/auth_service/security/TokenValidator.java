@@ -0,0 +1,213 @@
+package com.coordvol.auth_service.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.security.SigningKeyRing.SigningKey;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.TokenValidationResult;
+import com.coordvol.auth_service.service.TokenVerification;
+import com.coordvol.auth_service.util.CompactUuid;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Checks an access token without throwing for the expected failures.
+ *
+ * jjwt reports every rejection as an exception with a stack trace, which is
+ * the dominant cost when a client sprays garbage or a burst of tokens expires
+ * together. This validator checks the structure by hand, verifies the
+ * signature with a per-thread Mac or Signature and reads the payload only
+ * after that, returning a shared result object for each failure. It accepts
+ * exactly what JwtServiceImpl issues: without a kid only the one HMAC alg
+ * that the secret's length selects, with a key ring kid only ES256, standard
+ * or compact claims. The header's alg never chooses the algorithm. A token
+ * with a crit header is rejected because no extension is supported, and nbf
+ * is honoured when present.
+ */
+public final class TokenValidator {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final Map<TokenValidationResult, TokenVerification> FAILURES =
+            new EnumMap<>(TokenValidationResult.class);
+
+    static {
+        for (TokenValidationResult result : TokenValidationResult.values()) {
+            FAILURES.put(result, new TokenVerification(result, null));
+        }
+    }
+
+    private final SecretKey hmacKey;
+    private final SignatureAlgorithm hmacAlgorithm;
+    private final SigningKeyRing keyRing;
+    private final String issuer;
+    private final ThreadLocal<Mac> hmac;
+    private final ThreadLocal<Signature> es256 = ThreadLocal.withInitial(() -> {
+        try {
+            // JWS carries the raw r||s form, not DER
+            return Signature.getInstance("SHA256withECDSAinP1363Format");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 not available", e);
+        }
+    });
+
+    public TokenValidator(SecretKey hmacKey, SigningKeyRing keyRing, String issuer) {
+        this.hmacKey = hmacKey;
+        this.hmacAlgorithm = hmacAlgorithm(hmacKey);
+        this.keyRing = keyRing;
+        this.issuer = issuer;
+        this.hmac = ThreadLocal.withInitial(() -> newMac(hmacAlgorithm.getJcaName()));
+    }
+
+    /**
+     * The HMAC alg tokens without a kid are signed and accepted with, the one
+     * jjwt picks for the key's length; null without a secret.
+     */
+    public static SignatureAlgorithm hmacAlgorithm(SecretKey hmacKey) {
+        return hmacKey == null ? null : SignatureAlgorithm.forSigningKey(hmacKey);
+    }
+
+    public TokenVerification validate(String token, long nowMillis) {
+        if (token == null) {
+            return FAILURES.get(TokenValidationResult.MALFORMED);
+        }
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot < 1 || secondDot < firstDot + 2 || secondDot == token.length() - 1
+                || token.indexOf('.', secondDot + 1) >= 0
+                || !isBase64Url(token, 0, firstDot)
+                || !isBase64Url(token, firstDot + 1, secondDot)
+                || !isBase64Url(token, secondDot + 1, token.length())) {
+            return FAILURES.get(TokenValidationResult.MALFORMED);
+        }
+
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        Map<?, ?> header = readJson(decoder.decode(token.substring(0, firstDot)));
+        if (header == null || header.containsKey("crit")) {
+            return FAILURES.get(TokenValidationResult.MALFORMED);
+        }
+        byte[] signingInput = token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = decoder.decode(token.substring(secondDot + 1));
+        String kid = header.get("kid") instanceof String value ? value : null;
+        String alg = header.get("alg") instanceof String value ? value : null;
+        if (!verifySignature(alg, kid, signingInput, signature, nowMillis)) {
+            return FAILURES.get(TokenValidationResult.BAD_SIGNATURE);
+        }
+
+        Map<?, ?> payload = readJson(decoder.decode(token.substring(firstDot + 1, secondDot)));
+        if (payload == null || !(payload.get("exp") instanceof Number exp) || !(payload.get("sub") instanceof String sub)) {
+            return FAILURES.get(TokenValidationResult.MALFORMED);
+        }
+        Object tokenIssuer = payload.get("iss");
+        if (tokenIssuer == null ? kid == null : !issuer.equals(tokenIssuer)) {
+            return FAILURES.get(TokenValidationResult.WRONG_ISSUER);
+        }
+        Object nbf = payload.get("nbf");
+        if (nbf != null && !(nbf instanceof Number)) {
+            return FAILURES.get(TokenValidationResult.MALFORMED);
+        }
+        if (nbf != null && nowMillis < ((Number) nbf).longValue() * 1000) {
+            return FAILURES.get(TokenValidationResult.NOT_YET_VALID);
+        }
+        long expiresAtMillis = exp.longValue() * 1000;
+        if (nowMillis > expiresAtMillis) {
+            return FAILURES.get(TokenValidationResult.EXPIRED);
+        }
+        TokenClaims claims = toClaims(payload, sub, expiresAtMillis);
+        return claims != null ? new TokenVerification(TokenValidationResult.VALID, claims)
+                : FAILURES.get(TokenValidationResult.MALFORMED);
+    }
+
+    private boolean verifySignature(String alg, String kid, byte[] signingInput, byte[] signature, long nowMillis) {
+        try {
+            if (kid != null) {
+                SigningKey key = keyRing.verificationKey(kid, Instant.ofEpochMilli(nowMillis)).orElse(null);
+                if (key == null || !"ES256".equals(alg)) {
+                    return false;
+                }
+                Signature verifier = es256.get();
+                verifier.initVerify(key.publicKey());
+                verifier.update(signingInput);
+                return verifier.verify(signature);
+            }
+            // Pinned: a token naming any other alg is rejected, never verified with it
+            if (hmacKey == null || !hmacAlgorithm.getValue().equals(alg)) {
+                return false;
+            }
+            return MessageDigest.isEqual(hmac.get().doFinal(signingInput), signature);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Claims of a token whose signature already verified; null only if this
+     * service could not have issued it.
+     */
+    private TokenClaims toClaims(Map<?, ?> payload, String sub, long expiresAtMillis) {
+        try {
+            Role role = payload.get("r") instanceof String code ? Role.fromCode(code)
+                    : payload.get("role") instanceof String name ? Role.valueOf(name) : null;
+            if (role == null) {
+                return null;
+            }
+            UUID tokenId = payload.get("jti") instanceof String jti ? CompactUuid.decode(jti) : null;
+            int tokenEpoch = payload.get("ep") instanceof Number ep ? ep.intValue() : 0;
+            Object tokenIssuer = payload.get("iss");
+            return new TokenClaims(tokenId, CompactUuid.decode(sub), role, new Date(expiresAtMillis),
+                    tokenIssuer != null ? tokenIssuer.toString() : issuer, tokenEpoch);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Map<?, ?> readJson(byte[] json) {
+        if (json.length < 2 || json[0] != '{') {
+            return null;
+        }
+        try {
+            return JSON.readValue(json, Map.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Non-empty, only base64url characters, and a length base64 can produce.
+     */
+    private static boolean isBase64Url(String token, int from, int to) {
+        if (to <= from || (to - from) % 4 == 1) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = token.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Mac newMac(String algorithm) {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(hmacKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+}
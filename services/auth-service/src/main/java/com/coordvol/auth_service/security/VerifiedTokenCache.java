@@ -0,0 +1,149 @@
+package com.coordvol.auth_service.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.coordvol.auth_service.service.TokenClaims;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded LRU cache of access tokens whose signature has already been verified.
+ *
+ * Entries are keyed by the SHA-256 digest of the token so raw bearer tokens are
+ * never kept in memory, and an entry stops being served once the token's own
+ * expiration has passed. The cache is split into segments so concurrent requests
+ * for different tokens do not contend on a single lock.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int SEGMENTS = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final Segment[] segments;
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.max-entries:10000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this.enabled = maxEntries > 0;
+        this.segments = new Segment[SEGMENTS];
+        int perSegment = Math.max(1, maxEntries / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.hits = Counter.builder("auth.jwt.cache.requests").tag("result", "hit")
+                .description("Verified token cache lookups").register(meterRegistry);
+        this.misses = Counter.builder("auth.jwt.cache.requests").tag("result", "miss")
+                .description("Verified token cache lookups").register(meterRegistry);
+        this.sizeEvictions = Counter.builder("auth.jwt.cache.evictions").tag("cause", "size")
+                .description("Verified token cache evictions").register(meterRegistry);
+        this.expiredEvictions = Counter.builder("auth.jwt.cache.evictions").tag("cause", "expired")
+                .description("Verified token cache evictions").register(meterRegistry);
+        Gauge.builder("auth.jwt.cache.size", this, VerifiedTokenCache::size)
+                .description("Verified tokens currently cached").register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached claims for the token, or null when the token has not been
+     * verified yet or its expiration has passed.
+     */
+    public TokenClaims get(String token, Date now) {
+        return get(token, now.getTime());
+    }
+
+    public TokenClaims get(String token, long nowMillis) {
+        if (!enabled) {
+            return null;
+        }
+        String key = digest(token);
+        Segment segment = segmentFor(key);
+        TokenClaims claims;
+        synchronized (segment) {
+            claims = segment.get(key);
+            if (claims != null && claims.isExpired(nowMillis)) {
+                segment.remove(key);
+                expiredEvictions.increment();
+                claims = null;
+            }
+        }
+        if (claims == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return claims;
+    }
+
+    public void put(String token, TokenClaims claims) {
+        if (!enabled) {
+            return;
+        }
+        String key = digest(token);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, claims);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[(key.hashCode() & 0x7fffffff) % SEGMENTS];
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private final class Segment extends LinkedHashMap<String, TokenClaims> {
+
+        private final int maxEntries;
+
+        private Segment(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+            if (size() > maxEntries) {
+                sizeEvictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
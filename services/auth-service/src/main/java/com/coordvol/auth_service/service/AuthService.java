@@ -1,12 +1,39 @@
 package com.coordvol.auth_service.service;
 
-import com.coordvol.auth_service.entity.AuthUser;
+import java.util.UUID;
+
+import com.coordvol.auth_service.dto.ChangePasswordRequestDTO;
+import com.coordvol.auth_service.dto.CurrentUserResponseDTO;
+import com.coordvol.auth_service.dto.LoginRequestDTO;
+import com.coordvol.auth_service.dto.LoginResponseDTO;
+import com.coordvol.auth_service.dto.RegisterRequestDTO;
+import com.coordvol.auth_service.dto.RegisterResponseDTO;
 
 import reactor.core.publisher.Mono;
 
 public interface AuthService {
 
-    Mono<LoginResponseDTO> login(LoginRequestDTO request);
-    Mono<AuthUser> register(RegisterRequestDTO request);
+    /**
+     * @param clientAddress address the attempt came from, for rate limiting
+     */
+    Mono<LoginResponseDTO> login(LoginRequestDTO request, String clientAddress);
+    Mono<RegisterResponseDTO> register(RegisterRequestDTO request);
     Mono<LoginResponseDTO> refreshToken(String refreshToken);
+
+    /**
+     * Revokes the access token and the refresh token family of the session,
+     * or every refresh token family of the user when refreshToken is null.
+     */
+    Mono<Void> logout(String accessToken, String refreshToken);
+
+    /**
+     * Replaces the user's password after checking the current one. Every access
+     * token issued before stops being accepted and every refresh token is revoked.
+     */
+    Mono<Void> changePassword(UUID userId, ChangePasswordRequestDTO request);
+
+    /**
+     * The authenticated user, read from the replica when it is fresh enough.
+     */
+    Mono<CurrentUserResponseDTO> currentUser(UUID userId);
 }
@@ -0,0 +1,25 @@
+package com.coordvol.auth_service.service;
+
+import com.coordvol.auth_service.dto.BulkUserResultDTO;
+import com.coordvol.auth_service.dto.CreateUserRequestDTO;
+
+import reactor.core.publisher.Flux;
+
+public interface BulkUserProvisioningService {
+
+    /**
+     * Creates users from a stream of requests, emitting one result per request in
+     * input order. Rows are validated and hashed individually and written in
+     * multi-row batches, so a bad row never fails the rest of the stream. Each
+     * created user gets a UserProfileCreated outbox event in the batch's transaction.
+     */
+    Flux<BulkUserResultDTO> createUsers(Flux<CreateUserRequestDTO> requests);
+
+    /**
+     * Same as {@link #createUsers} for CSV lines with columns email,password,role
+     * and optionally firstName,lastName,language. Blank lines and a header row are
+     * skipped but still counted, so result line numbers match the file; a line
+     * that is not valid CSV is reported as INVALID.
+     */
+    Flux<BulkUserResultDTO> createUsersFromCsv(Flux<String> lines);
+}
@@ -6,12 +6,27 @@ import java.util.UUID;
 import com.coordvol.auth_service.domain.enums.Role;
 
 public interface JwtService {
-    String generateToken(UUID userId, Role role);
-    String generateRefreshToken(String username);
+    String generateToken(UUID userId, Role role, int tokenEpoch);
+
+    /**
+     * Token at the initial epoch, for users whose tokens were never invalidated.
+     */
+    default String generateToken(UUID userId, Role role) {
+        return generateToken(userId, role, 0);
+    }
+
     UUID extractUserId(String token);
     Role extractRole(String token);
     Date extractExpiration(String token);
     String extractIssuer(String token);
     Boolean isTokenExpired(String token);
     Boolean validateToken(String token);
+
+    /**
+     * Checks the token without throwing or logging per failure and returns its
+     * claims when it is valid. Callers use these claims rather than calling
+     * parseClaims on a token they have just verified.
+     */
+    TokenVerification verifyToken(String token);
+    TokenClaims parseClaims(String token);
 }
@@ -0,0 +1,19 @@
+package com.coordvol.auth_service.service;
+
+import java.util.UUID;
+
+import reactor.core.publisher.Mono;
+
+public interface LastLoginService {
+
+    /**
+     * Notes a successful login at the current time. Only memory is touched;
+     * the time reaches last_login_at with the next flush.
+     */
+    void recordLogin(UUID userId);
+
+    /**
+     * Writes the logins recorded since the last flush, latest per user.
+     */
+    Mono<Void> flush();
+}
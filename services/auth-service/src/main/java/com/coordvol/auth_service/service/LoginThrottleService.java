@@ -0,0 +1,33 @@
+package com.coordvol.auth_service.service;
+
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.projection.LoginCredentials;
+
+import reactor.core.publisher.Mono;
+
+public interface LoginThrottleService {
+
+    /**
+     * Takes one attempt from the budgets of the client address and of the
+     * email. Fails with TooManyRequestsException when either is spent; meant
+     * to run before the user is looked up or any password is hashed.
+     */
+    Mono<Void> checkAttempt(String clientAddress, String email);
+
+    /**
+     * Fails with the same UnauthorizedException as a wrong password while
+     * repeated failures keep the user locked.
+     */
+    Mono<Void> checkNotLocked(LoginCredentials credentials);
+
+    /**
+     * Counts a wrong password, locking the user once the threshold is reached.
+     */
+    Mono<Void> recordFailure(UUID userId);
+
+    /**
+     * Clears the failure count, if there is one to clear.
+     */
+    Mono<Void> recordSuccess(LoginCredentials credentials);
+}
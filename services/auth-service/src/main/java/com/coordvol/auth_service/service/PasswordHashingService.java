@@ -0,0 +1,24 @@
+package com.coordvol.auth_service.service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs password hashing off the event loop.
+ *
+ * Hashing is CPU bound and takes tens of milliseconds, so every call is
+ * executed on a dedicated bounded pool. When the pool queue is full the
+ * returned Mono fails with ServiceUnavailableException instead of queueing
+ * without limit.
+ */
+public interface PasswordHashingService {
+    Mono<String> encode(CharSequence rawPassword);
+    Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword);
+
+    /**
+     * Costs as much as matches against a hash of the current strength but
+     * always answers false. Used for logins without a usable account so they
+     * cannot be told apart by response time.
+     */
+    Mono<Boolean> matchesNothing(CharSequence rawPassword);
+    boolean needsRehash(String encodedPassword);
+}
@@ -0,0 +1,29 @@
+package com.coordvol.auth_service.service;
+
+import java.util.UUID;
+
+import reactor.core.publisher.Mono;
+
+public interface RefreshTokenService {
+
+    /**
+     * Issues a new opaque refresh token starting a new token family.
+     */
+    Mono<String> issue(UUID userId);
+
+    /**
+     * Consumes the given refresh token and issues its successor in the same family.
+     * Presenting an already rotated token revokes the whole family. Nothing is
+     * consumed or issued unless the user is active.
+     */
+    Mono<Rotation> rotate(String refreshToken);
+
+    /**
+     * Revokes the family of the given refresh token if it belongs to the user,
+     * or every family of the user when refreshToken is null.
+     */
+    Mono<Void> revoke(UUID userId, String refreshToken);
+
+    record Rotation(UUID userId, String refreshToken) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.coordvol.auth_service.service;
+
+import java.util.Date;
+import java.util.UUID;
+
+import com.coordvol.auth_service.domain.enums.Role;
+
+/**
+ * Immutable view of the claims carried by a verified access token.
+ *
+ * Produced by a single parse of the token so callers that need several
+ * claims do not verify the signature once per claim. tokenId is the jti claim
+ * and is null for tokens issued before it was introduced; tokenEpoch is the
+ * user's token epoch at issue time (0 when the claim is absent).
+ */
+public record TokenClaims(UUID tokenId, UUID userId, Role role, Date expiration, String issuer, int tokenEpoch) {
+
+    public boolean isExpired(Date now) {
+        return isExpired(now.getTime());
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration.getTime() < nowMillis;
+    }
+}
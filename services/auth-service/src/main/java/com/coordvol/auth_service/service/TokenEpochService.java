@@ -0,0 +1,13 @@
+package com.coordvol.auth_service.service;
+
+import reactor.core.publisher.Mono;
+
+public interface TokenEpochService {
+
+    /**
+     * True unless the user's token epoch was bumped after the token was issued
+     * (status or password change). Answered from memory while the change feed
+     * is connected.
+     */
+    Mono<Boolean> isCurrent(TokenClaims claims);
+}
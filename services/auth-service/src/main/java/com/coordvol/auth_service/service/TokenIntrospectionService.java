@@ -0,0 +1,17 @@
+package com.coordvol.auth_service.service;
+
+import java.util.List;
+
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+
+import reactor.core.publisher.Mono;
+
+public interface TokenIntrospectionService {
+
+    /**
+     * Verifies every token and returns one result per token in the same order.
+     * A token is active when its signature, issuer and expiry check out and it
+     * was neither revoked nor invalidated by a token epoch bump.
+     */
+    Mono<List<TokenIntrospectionDTO>> introspect(List<String> tokens);
+}
@@ -0,0 +1,18 @@
+package com.coordvol.auth_service.service;
+
+import reactor.core.publisher.Mono;
+
+public interface TokenRevocationService {
+
+    /**
+     * Revokes the access token until its own expiry. Tokens without a jti
+     * cannot be revoked and are left to expire.
+     */
+    Mono<Void> revoke(TokenClaims claims);
+
+    /**
+     * Answers from the in-memory filter when it can rule the token out and only
+     * consults the revocation store when the filter reports a possible match.
+     */
+    Mono<Boolean> isRevoked(TokenClaims claims);
+}
@@ -0,0 +1,16 @@
+package com.coordvol.auth_service.service;
+
+/**
+ * Outcome of checking an access token, in the order the checks run.
+ */
+public enum TokenValidationResult {
+    VALID,
+    // Not three base64url parts, header/payload not usable JSON, or a crit header
+    MALFORMED,
+    // Signature does not verify, alg other than the one this service signs with, or unknown kid
+    BAD_SIGNATURE,
+    WRONG_ISSUER,
+    // nbf is still in the future
+    NOT_YET_VALID,
+    EXPIRED
+}
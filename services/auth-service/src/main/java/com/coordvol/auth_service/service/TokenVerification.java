@@ -0,0 +1,13 @@
+package com.coordvol.auth_service.service;
+
+/**
+ * Outcome of JwtService#verifyToken. claims is set only when the result is
+ * VALID and comes from the same pass that checked the signature, so callers
+ * never parse the token a second time.
+ */
+public record TokenVerification(TokenValidationResult result, TokenClaims claims) {
+
+    public boolean isValid() {
+        return result == TokenValidationResult.VALID;
+    }
+}
@@ -0,0 +1,20 @@
+package com.coordvol.auth_service.service;
+
+import java.util.UUID;
+
+import com.coordvol.auth_service.dto.BulkStatusUpdateRequestDTO;
+import com.coordvol.auth_service.dto.BulkStatusUpdateResponseDTO;
+import com.coordvol.auth_service.dto.UserStatusResponseDTO;
+import com.coordvol.auth_service.dto.UserStatusUpdateRequestDTO;
+
+import reactor.core.publisher.Mono;
+
+public interface UserStatusService {
+    Mono<UserStatusResponseDTO> updateStatus(UUID userId, UserStatusUpdateRequestDTO request);
+
+    /**
+     * Changes the status of the requested users. The calling admin is never part
+     * of a bulk change, and a change that would leave no active admin is refused.
+     */
+    Mono<BulkStatusUpdateResponseDTO> bulkUpdateStatus(UUID callerId, BulkStatusUpdateRequestDTO request);
+}
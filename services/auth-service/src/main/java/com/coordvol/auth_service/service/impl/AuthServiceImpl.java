@@ -1,12 +1,222 @@
 package com.coordvol.auth_service.service.impl;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+import com.coordvol.auth_service.dto.ChangePasswordRequestDTO;
+import com.coordvol.auth_service.dto.CurrentUserResponseDTO;
+import com.coordvol.auth_service.dto.LoginRequestDTO;
+import com.coordvol.auth_service.dto.LoginResponseDTO;
+import com.coordvol.auth_service.dto.RegisterRequestDTO;
+import com.coordvol.auth_service.dto.RegisterResponseDTO;
+import com.coordvol.auth_service.exception.BadRequestException;
+import com.coordvol.auth_service.exception.ConflictException;
+import com.coordvol.auth_service.exception.NotFoundException;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.outbox.OutboxRepository;
 import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.repository.ReplicaReads;
+import com.coordvol.auth_service.service.AuthService;
+import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.service.LastLoginService;
+import com.coordvol.auth_service.service.LoginThrottleService;
+import com.coordvol.auth_service.service.PasswordHashingService;
+import com.coordvol.auth_service.service.RefreshTokenService;
+import com.coordvol.auth_service.service.TokenRevocationService;
+import com.coordvol.auth_service.util.EmailNormalizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
 
+@Slf4j
 @Service
-public class AuthServiceImpl {
+@RequiredArgsConstructor
+public class AuthServiceImpl implements AuthService {
     private final AuthUserRepository authUserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final LastLoginService lastLoginService;
+    private final LoginThrottleService loginThrottleService;
+    private final OutboxRepository outboxRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final JsonMapper jsonMapper;
+    private final Clock clock;
+
+    @Override
+    public Mono<LoginResponseDTO> login(LoginRequestDTO request, String clientAddress) {
+        String email = EmailNormalizer.normalize(request.getEmail());
+        // Throttled attempts are rejected before the lookup and, above all, the hash
+        return loginThrottleService.checkAttempt(clientAddress, email)
+                .then(Mono.defer(() -> authUserRepository.findCredentialsByEmail(email)))
+                .switchIfEmpty(Mono.defer(() -> rejectWithoutAccount(request)))
+                .flatMap(credentials -> {
+                    if (credentials.status() != UserStatus.ACTIVE) {
+                        return rejectWithoutAccount(request);
+                    }
+                    return loginThrottleService.checkNotLocked(credentials)
+                            .then(Mono.defer(() -> passwordHashingService.matches(request.getPassword(),
+                                    credentials.passwordHash())))
+                            .flatMap(matches -> {
+                                if (!matches) {
+                                    return loginThrottleService.recordFailure(credentials.id())
+                                            .then(Mono.error(new UnauthorizedException("Invalid credentials")));
+                                }
+                                if (passwordHashingService.needsRehash(credentials.passwordHash())) {
+                                    rehashInBackground(credentials.id(), request.getPassword(), credentials.passwordHash());
+                                }
+                                lastLoginService.recordLogin(credentials.id());
+                                return loginThrottleService.recordSuccess(credentials)
+                                        .then(refreshTokenService.issue(credentials.id()))
+                                        .map(refreshToken -> toLoginResponse(credentials.id(), credentials.role(),
+                                                credentials.tokenEpoch(), email, refreshToken));
+                            });
+                });
+    }
+
+    @Override
+    public Mono<RegisterResponseDTO> register(RegisterRequestDTO request) {
+        if (!Role.isValidRegistrationRole(request.getRole())) {
+            return Mono.error(new BadRequestException("Invalid role for registration"));
+        }
+        String email = EmailNormalizer.normalize(request.getEmail());
+        // One INSERT ... ON CONFLICT round-trip, no check-then-act race between sign-ups
+        return passwordHashingService.encode(request.getPassword())
+                .map(passwordHash -> AuthUser.builder()
+                        .email(email)
+                        .passwordHash(passwordHash)
+                        .role(request.getRole())
+                        .status(UserStatus.ACTIVE)
+                        .build())
+                // User and outbox row commit together; the relay creates the profile later
+                .flatMap(user -> transactionalOperator.transactional(authUserRepository.insertIfEmailAbsent(user)
+                        .flatMap(saved -> appendProfileCreation(saved, request).thenReturn(saved))))
+                .switchIfEmpty(Mono.error(new ConflictException("Email already exists")))
+                .map(this::toRegisterResponse);
+    }
+
+    @Override
+    public Mono<LoginResponseDTO> refreshToken(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken)
+                .flatMap(rotation -> authUserRepository.findById(rotation.userId())
+                        .filter(user -> user.getStatus() == UserStatus.ACTIVE)
+                        .switchIfEmpty(Mono.error(new UnauthorizedException("User is not active")))
+                        .map(user -> toLoginResponse(user.getId(), user.getRole(),
+                                user.getTokenEpoch(), user.getEmail(), rotation.refreshToken())));
+    }
+
+    @Override
+    public Mono<Void> logout(String accessToken, String refreshToken) {
+        return Mono.fromCallable(() -> jwtService.parseClaims(accessToken))
+                .onErrorMap(e -> new UnauthorizedException("Invalid access token"))
+                .flatMap(claims -> tokenRevocationService.revoke(claims)
+                        .then(refreshTokenService.revoke(claims.userId(), refreshToken)));
+    }
+
+    @Override
+    public Mono<Void> changePassword(UUID userId, ChangePasswordRequestDTO request) {
+        return authUserRepository.findCredentialsById(userId)
+                .switchIfEmpty(Mono.error(new NotFoundException("User not found")))
+                .flatMap(credentials -> {
+                    if (credentials.status() != UserStatus.ACTIVE) {
+                        return Mono.error(new UnauthorizedException("User is not active"));
+                    }
+                    // Guesses at the current password count toward the same lockout as logins
+                    return loginThrottleService.checkNotLocked(credentials)
+                            .then(Mono.defer(() -> passwordHashingService.matches(request.getCurrentPassword(),
+                                    credentials.passwordHash())))
+                            .flatMap(matches -> {
+                                if (!matches) {
+                                    return loginThrottleService.recordFailure(credentials.id())
+                                            .then(Mono.<Void>error(new UnauthorizedException("Invalid credentials")));
+                                }
+                                return passwordHashingService.encode(request.getNewPassword())
+                                        .flatMap(newHash -> transactionalOperator.transactional(
+                                                replacePassword(credentials.id(), credentials.passwordHash(), newHash)))
+                                        .then(Mono.defer(() -> loginThrottleService.recordSuccess(credentials)));
+                            });
+                });
+    }
+
+    @Override
+    public Mono<CurrentUserResponseDTO> currentUser(UUID userId) {
+        return ReplicaReads.preferReplica(() -> authUserRepository.findById(userId))
+                .switchIfEmpty(Mono.error(new NotFoundException("User not found")))
+                .map(user -> CurrentUserResponseDTO.builder()
+                        .userId(user.getId())
+                        .email(user.getEmail())
+                        .role(user.getRole())
+                        .active(user.getStatus() == UserStatus.ACTIVE)
+                        .build());
+    }
+
+    /**
+     * Answers an unknown or inactive user like a wrong password, after a hash of
+     * the same cost, so neither the status nor the timing tells them apart.
+     */
+    private <T> Mono<T> rejectWithoutAccount(LoginRequestDTO request) {
+        return passwordHashingService.matchesNothing(request.getPassword())
+                .then(Mono.error(new UnauthorizedException("Invalid credentials")));
+    }
+
+    private Mono<Void> appendProfileCreation(AuthUser user, RegisterRequestDTO request) {
+        UserProfileCreatedEvent event = new UserProfileCreatedEvent(
+                user.getId(), user.getEmail(), request.getFirstName(), request.getLastName(), request.getLanguage());
+        return outboxRepository.append(user.getId(), UserProfileCreatedEvent.TYPE, jsonMapper.writeValueAsString(event));
+    }
+
+    /**
+     * Swaps the hash and bumps the token epoch, which ends the user's access
+     * tokens on every instance, and revokes the refresh tokens that could mint
+     * new ones.
+     */
+    private Mono<Void> replacePassword(UUID userId, String currentHash, String newHash) {
+        return authUserRepository.changePassword(userId, currentHash, newHash, LocalDateTime.now(clock))
+                .flatMap(updated -> updated == 0
+                        ? Mono.<Void>error(new ConflictException("Password was changed concurrently"))
+                        : refreshTokenService.revoke(userId, null));
+    }
+
+    /**
+     * Upgrades a hash stored with an older cost or algorithm. Runs detached from
+     * the login response; if it fails it is simply retried on the next login.
+     */
+    private void rehashInBackground(UUID userId, String rawPassword, String currentHash) {
+        passwordHashingService.encode(rawPassword)
+                .flatMap(newHash -> authUserRepository.updatePasswordHash(userId, currentHash, newHash))
+                .subscribe(
+                        updated -> log.debug("Rehashed password for user {} ({} row)", userId, updated),
+                        error -> log.warn("Password rehash for user {} failed: {}", userId, error.getMessage()));
+    }
+
+    private LoginResponseDTO toLoginResponse(UUID userId, Role role, int tokenEpoch, String email, String refreshToken) {
+        return LoginResponseDTO.builder()
+                .token(jwtService.generateToken(userId, role, tokenEpoch))
+                .refreshToken(refreshToken)
+                .userId(userId)
+                .username(email)
+                .email(email)
+                .role(role.name())
+                .build();
+    }
+
+    private RegisterResponseDTO toRegisterResponse(AuthUser user) {
+        return RegisterResponseDTO.builder()
+                .userId(user.getId())
+                .role(user.getRole())
+                .active(user.getStatus() == UserStatus.ACTIVE)
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
 }
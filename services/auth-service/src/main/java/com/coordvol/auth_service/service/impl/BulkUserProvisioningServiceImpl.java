@@ -0,0 +1,276 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.enums.Language;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.dto.BulkUserResultDTO;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+import com.coordvol.auth_service.dto.CreateUserRequestDTO;
+import com.coordvol.auth_service.outbox.OutboxRepository;
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.repository.AuthUserRepositoryCustom;
+import com.coordvol.auth_service.service.BulkUserProvisioningService;
+import com.coordvol.auth_service.service.PasswordHashingService;
+import com.coordvol.auth_service.util.CsvLine;
+import com.coordvol.auth_service.util.EmailNormalizer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import tools.jackson.databind.json.JsonMapper;
+
+@Slf4j
+@Service
+public class BulkUserProvisioningServiceImpl implements BulkUserProvisioningService {
+
+    private final AuthUserRepository authUserRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final OutboxRepository outboxRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final int hashConcurrency;
+
+    public BulkUserProvisioningServiceImpl(
+            AuthUserRepository authUserRepository,
+            PasswordHashingService passwordHashingService,
+            OutboxRepository outboxRepository,
+            TransactionalOperator transactionalOperator,
+            JsonMapper jsonMapper,
+            Validator validator,
+            @Value("${auth.bulk.batch-size:200}") int batchSize,
+            @Value("${auth.bulk.hash-concurrency:0}") int hashConcurrency) {
+        if (batchSize < 1 || batchSize > AuthUserRepositoryCustom.MAX_INSERT_BATCH_SIZE) {
+            throw new IllegalStateException("auth.bulk.batch-size must be between 1 and "
+                    + AuthUserRepositoryCustom.MAX_INSERT_BATCH_SIZE + ", was " + batchSize);
+        }
+        this.authUserRepository = authUserRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.outboxRepository = outboxRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        // Default to half the CPUs so a bulk import leaves hashing capacity for logins
+        this.hashConcurrency = hashConcurrency > 0
+                ? hashConcurrency
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    @Override
+    public Flux<BulkUserResultDTO> createUsers(Flux<CreateUserRequestDTO> requests) {
+        return provision(requests.map(Input::of).index());
+    }
+
+    @Override
+    public Flux<BulkUserResultDTO> createUsersFromCsv(Flux<String> lines) {
+        // Indexed before filtering so reported line numbers match the file
+        return provision(lines.index()
+                .filter(indexed -> !indexed.getT2().isBlank())
+                .filter(indexed -> !indexed.getT2().trim().toLowerCase(Locale.ROOT).startsWith("email,"))
+                .map(indexed -> Tuples.of(indexed.getT1(), fromCsv(indexed.getT2()))));
+    }
+
+    /**
+     * @param inputs rows paired with their zero-based position in the request
+     */
+    private Flux<BulkUserResultDTO> provision(Flux<Tuple2<Long, Input>> inputs) {
+        return inputs
+                .flatMapSequential(indexed -> prepare(indexed.getT1() + 1, indexed.getT2()), hashConcurrency)
+                .buffer(batchSize)
+                .concatMap(this::insertBatch);
+    }
+
+    private Mono<PendingRow> prepare(long line, Input input) {
+        if (input.error() != null) {
+            return Mono.just(PendingRow.rejected(line, null, BulkUserResultDTO.Status.INVALID, input.error()));
+        }
+        CreateUserRequestDTO request = input.request();
+        // Surrounding spaces and upper case are not errors, so normalize before validating
+        request.setEmail(EmailNormalizer.normalize(request.getEmail()));
+        Set<ConstraintViolation<CreateUserRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return Mono.just(PendingRow.rejected(line, request.getEmail(), BulkUserResultDTO.Status.INVALID, error));
+        }
+        if (!Role.isValidRegistrationRole(request.getRole())) {
+            return Mono.just(PendingRow.rejected(line, request.getEmail(), BulkUserResultDTO.Status.INVALID,
+                    "Cannot create ADMIN users"));
+        }
+        return passwordHashingService.encode(request.getPassword())
+                .map(passwordHash -> PendingRow.accepted(line, request, AuthUser.builder()
+                        .email(request.getEmail())
+                        .passwordHash(passwordHash)
+                        .role(request.getRole())
+                        .status(UserStatus.ACTIVE)
+                        .build()))
+                .onErrorResume(e -> Mono.just(PendingRow.rejected(line, request.getEmail(),
+                        BulkUserResultDTO.Status.FAILED, e.getMessage())));
+    }
+
+    private static Input fromCsv(String line) {
+        List<String> columns;
+        try {
+            columns = CsvLine.parse(line);
+        } catch (IllegalArgumentException e) {
+            return Input.malformed("Malformed CSV: " + e.getMessage());
+        }
+        return Input.of(CreateUserRequestDTO.builder()
+                .email(column(columns, 0))
+                .password(column(columns, 1))
+                .role(parseEnum(Role.class, column(columns, 2)))
+                .firstName(column(columns, 3))
+                .lastName(column(columns, 4))
+                .language(parseEnum(Language.class, column(columns, 5)))
+                .build());
+    }
+
+    private static String column(List<String> columns, int index) {
+        return index < columns.size() ? columns.get(index).trim() : null;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            // Left null so the row is reported as INVALID instead of failing the stream
+            return null;
+        }
+    }
+
+    private Flux<BulkUserResultDTO> insertBatch(List<PendingRow> rows) {
+        // Only the first occurrence of an email in the batch is sent to the database
+        Map<String, CreateUserRequestDTO> requestsByEmail = new HashMap<>();
+        boolean[] duplicate = new boolean[rows.size()];
+        List<AuthUser> toInsert = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            if (row.user() == null) {
+                continue;
+            }
+            if (requestsByEmail.putIfAbsent(row.user().getEmail(), row.request()) == null) {
+                toInsert.add(row.user());
+            } else {
+                duplicate[i] = true;
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return Flux.fromIterable(toResults(rows, duplicate, Map.of()));
+        }
+
+        // Users and their outbox rows commit together, as on registration
+        return transactionalOperator.transactional(authUserRepository.insertAllIfEmailAbsent(toInsert)
+                        .concatMap(saved -> appendProfileCreation(saved, requestsByEmail.get(saved.getEmail()))
+                                .thenReturn(saved))
+                        .collectMap(AuthUser::getEmail, AuthUser::getId))
+                .map(created -> toResults(rows, duplicate, created))
+                .onErrorResume(e -> {
+                    log.warn("Bulk insert of {} users failed: {}", toInsert.size(), e.getMessage());
+                    return Mono.just(toFailedResults(rows, e.getMessage()));
+                })
+                .flatMapIterable(results -> results);
+    }
+
+    private Mono<Void> appendProfileCreation(AuthUser user, CreateUserRequestDTO request) {
+        UserProfileCreatedEvent event = new UserProfileCreatedEvent(
+                user.getId(), user.getEmail(), request.getFirstName(), request.getLastName(), request.getLanguage());
+        return outboxRepository.append(user.getId(), UserProfileCreatedEvent.TYPE, jsonMapper.writeValueAsString(event));
+    }
+
+    private List<BulkUserResultDTO> toResults(List<PendingRow> rows, boolean[] duplicate, Map<String, UUID> created) {
+        List<BulkUserResultDTO> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            if (row.user() == null) {
+                results.add(row.rejection());
+            } else if (duplicate[i]) {
+                results.add(result(row, BulkUserResultDTO.Status.CONFLICT, null, "Duplicate email in request"));
+            } else {
+                UUID userId = created.get(row.user().getEmail());
+                results.add(userId != null
+                        ? result(row, BulkUserResultDTO.Status.CREATED, userId, null)
+                        : result(row, BulkUserResultDTO.Status.CONFLICT, null, "Email already exists"));
+            }
+        }
+        return results;
+    }
+
+    private List<BulkUserResultDTO> toFailedResults(List<PendingRow> rows, String error) {
+        List<BulkUserResultDTO> results = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            results.add(row.user() == null
+                    ? row.rejection()
+                    : result(row, BulkUserResultDTO.Status.FAILED, null, error));
+        }
+        return results;
+    }
+
+    private static BulkUserResultDTO result(PendingRow row, BulkUserResultDTO.Status status, UUID userId, String error) {
+        return BulkUserResultDTO.builder()
+                .line(row.line())
+                .email(row.user().getEmail())
+                .status(status)
+                .userId(userId)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * An incoming row: the parsed request, or why it could not be parsed.
+     */
+    private record Input(CreateUserRequestDTO request, String error) {
+
+        static Input of(CreateUserRequestDTO request) {
+            return new Input(request, null);
+        }
+
+        static Input malformed(String error) {
+            return new Input(null, error);
+        }
+    }
+
+    /**
+     * A request after validation and hashing: either a user ready to insert or the
+     * result explaining why it was rejected.
+     */
+    private record PendingRow(long line, CreateUserRequestDTO request, AuthUser user, BulkUserResultDTO rejection) {
+
+        static PendingRow accepted(long line, CreateUserRequestDTO request, AuthUser user) {
+            return new PendingRow(line, request, user, null);
+        }
+
+        static PendingRow rejected(long line, String email, BulkUserResultDTO.Status status, String error) {
+            return new PendingRow(line, null, null, BulkUserResultDTO.builder()
+                    .line(line)
+                    .email(email)
+                    .status(status)
+                    .error(error)
+                    .build());
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.coordvol.auth_service.service.impl;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.crypto.SecretKey;
 
@@ -10,74 +18,181 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.security.SigningKeyRing;
+import com.coordvol.auth_service.security.SigningKeyRing.SigningKey;
+import com.coordvol.auth_service.security.TokenValidator;
+import com.coordvol.auth_service.security.VerifiedTokenCache;
 import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.TokenValidationResult;
+import com.coordvol.auth_service.service.TokenVerification;
+import com.coordvol.auth_service.util.CompactUuid;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Issues and verifies access tokens.
+ *
+ * Tokens are signed ES256 with the current key of the SigningKeyRing and carry
+ * its kid, so other services can verify them against /.well-known/jwks.json.
+ * Tokens without a kid (issued before keys were configured, or when none are)
+ * are signed and verified with the shared HMAC secret.
+ *
+ * With jwt.compact=true tokens use the compact profile: the role as a one
+ * letter code under "r", subject and jti as 22-character base64url UUIDs, no
+ * "ep" claim at epoch 0, and no issuer when a kid identifies the signer.
+ * Both profiles are always accepted.
+ *
+ * validateToken and verifyToken go through TokenValidator and never throw or
+ * log per token: outcomes are counted in auth.jwt.validation{result} and a
+ * sample rejection is logged at most every SAMPLE_LOG_INTERVAL.
+ *
+ * All issue and expiry times come from the injected Clock (the cached
+ * application clock at runtime), never from the system clock directly.
+ */
 @Slf4j
 @Service
 public class JwtServiceImpl implements JwtService {
 
+    private static final String ROLE_CLAIM = "role";
+    private static final String COMPACT_ROLE_CLAIM = "r";
+    private static final String EPOCH_CLAIM = "ep";
+    private static final long SAMPLE_LOG_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+
     private final long expiration;
     private final String issuer;
-    private final SecretKey key;
+    private final SecretKey hmacKey;
+    private final SignatureAlgorithm hmacAlgorithm;
+    private final SigningKeyRing keyRing;
+    private final boolean compact;
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenValidator validator;
+    private final Map<TokenValidationResult, Counter> validationCounters = new EnumMap<>(TokenValidationResult.class);
+    private final AtomicLong nextSampleLogAt = new AtomicLong(System.nanoTime());
+    private final AtomicLong unloggedRejections = new AtomicLong();
+    private final Clock clock;
 
     public JwtServiceImpl(
-            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.secret:}") String secret,
             @Value("${jwt.expiration}") long expiration,
-            @Value("${jwt.issuer}") String issuer) {
+            @Value("${jwt.issuer}") String issuer,
+            VerifiedTokenCache tokenCache,
+            SigningKeyRing keyRing,
+            @Value("${jwt.compact:false}") boolean compact,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        if (secret.isEmpty() && keyRing.isEmpty()) {
+            throw new IllegalStateException("Configure jwt.signing.keys or jwt.secret");
+        }
         this.expiration = expiration;
+        this.tokenCache = tokenCache;
         this.issuer = issuer;
-        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.hmacKey = secret.isEmpty() ? null : Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.hmacAlgorithm = TokenValidator.hmacAlgorithm(hmacKey);
+        this.keyRing = keyRing;
+        this.compact = compact;
+        this.clock = clock;
+        // JwtParser is immutable and thread-safe, build it once instead of per call.
+        // The issuer is checked in verify() because compact tokens may omit it.
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver())
+                .setClock(() -> new Date(clock.millis()))
+                .build();
+        this.validator = new TokenValidator(hmacKey, keyRing, issuer);
+        for (TokenValidationResult result : TokenValidationResult.values()) {
+            validationCounters.put(result, Counter.builder("auth.jwt.validation")
+                    .description("Access token validations by outcome")
+                    .tag("result", result.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
     }
 
     private Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .requireIssuer(issuer)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(token).getBody();
     }
 
-    @Override
-    public String generateToken(UUID userId, Role role) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
-
-        return Jwts.builder()
-                .setSubject(userId.toString())
-                .claim("role", role)
-                .setIssuer(issuer)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key)
-                .compact();
+    /**
+     * Verifies signature and expiry, then the issuer: it must match when
+     * present and may only be left out by tokens signed with a key ring key.
+     */
+    private Jws<Claims> verify(String token) {
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        String tokenIssuer = jws.getBody().getIssuer();
+        if (tokenIssuer == null ? jws.getHeader().getKeyId() == null : !tokenIssuer.equals(issuer)) {
+            throw new JwtException("Unexpected token issuer");
+        }
+        return jws;
     }
 
     @Override
-    public String generateRefreshToken(String username) {
-        return "Test Token";
+    public String generateToken(UUID userId, Role role, int tokenEpoch) {
+        Instant now = clock.instant();
+        Date issuedAt = Date.from(now);
+        Date expiryDate = new Date(issuedAt.getTime() + expiration);
+        SigningKey signingKey = keyRing.signingKey(now).orElse(null);
+
+        JwtBuilder builder = Jwts.builder()
+                .setIssuedAt(issuedAt)
+                .setExpiration(expiryDate);
+        if (compact) {
+            builder.setId(CompactUuid.encode(UUID.randomUUID()))
+                    .setSubject(CompactUuid.encode(userId))
+                    .claim(COMPACT_ROLE_CLAIM, role.getCode());
+            if (tokenEpoch != 0) {
+                builder.claim(EPOCH_CLAIM, tokenEpoch);
+            }
+            if (signingKey == null) {
+                builder.setIssuer(issuer);
+            }
+        } else {
+            builder.setId(UUID.randomUUID().toString())
+                    .setSubject(userId.toString())
+                    .claim(ROLE_CLAIM, role)
+                    .claim(EPOCH_CLAIM, tokenEpoch)
+                    .setIssuer(issuer);
+        }
+
+        if (signingKey != null) {
+            return builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                    .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
+                    .compact();
+        }
+        if (hmacKey == null) {
+            throw new IllegalStateException("No signing key is active");
+        }
+        return builder.signWith(hmacKey, hmacAlgorithm).compact();
     }
 
     @Override
     public UUID extractUserId(String token) {
-        String subject = extractClaims(token).getSubject();
-        return UUID.fromString(subject);
+        return CompactUuid.decode(extractClaims(token).getSubject());
     }
 
     @Override
     public Role extractRole(String token) {
-        String roleString = extractClaims(token).get("role", String.class);
-        return Role.valueOf(roleString);
+        return decodeRole(extractClaims(token));
     }
 
     @Override
     public String extractIssuer(String token) {
-        return extractClaims(token).getIssuer();
+        // Verified above: an absent issuer on a key ring token means this service
+        String tokenIssuer = extractClaims(token).getIssuer();
+        return tokenIssuer != null ? tokenIssuer : issuer;
     }
 
     @Override
@@ -85,19 +200,102 @@ public class JwtServiceImpl implements JwtService {
         return extractClaims(token).getExpiration();
     }
 
+    @Override
+    public TokenClaims parseClaims(String token) {
+        TokenClaims cached = tokenCache.get(token, clock.millis());
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = extractClaims(token);
+        Integer tokenEpoch = claims.get(EPOCH_CLAIM, Integer.class);
+        TokenClaims tokenClaims = new TokenClaims(
+                claims.getId() != null ? CompactUuid.decode(claims.getId()) : null,
+                CompactUuid.decode(claims.getSubject()),
+                decodeRole(claims),
+                claims.getExpiration(),
+                claims.getIssuer() != null ? claims.getIssuer() : issuer,
+                tokenEpoch != null ? tokenEpoch : 0);
+        tokenCache.put(token, tokenClaims);
+        return tokenClaims;
+    }
+
     @Override
     public Boolean isTokenExpired(String token) {
-        return true;
+        return verifyToken(token).result() == TokenValidationResult.EXPIRED;
     }
 
     @Override
     public Boolean validateToken(String token) {
-        try {
-            Claims claims = extractClaims(token);
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+        return verifyToken(token).isValid();
+    }
+
+    @Override
+    public TokenVerification verifyToken(String token) {
+        long now = clock.millis();
+        TokenClaims cached = tokenCache.get(token, now);
+        if (cached != null) {
+            validationCounters.get(TokenValidationResult.VALID).increment();
+            return new TokenVerification(TokenValidationResult.VALID, cached);
+        }
+        TokenVerification verification = validator.validate(token, now);
+        validationCounters.get(verification.result()).increment();
+        if (verification.isValid()) {
+            tokenCache.put(token, verification.claims());
+        } else {
+            sampleRejection(verification.result());
+        }
+        return verification;
+    }
+
+    /**
+     * One line per interval with the count of rejections since the last one,
+     * instead of a log write per bad token.
+     */
+    private void sampleRejection(TokenValidationResult result) {
+        long now = System.nanoTime();
+        long next = nextSampleLogAt.get();
+        if (now - next < 0 || !nextSampleLogAt.compareAndSet(next, now + SAMPLE_LOG_INTERVAL)) {
+            unloggedRejections.incrementAndGet();
+            return;
+        }
+        log.warn("Rejected access token: {} ({} other rejections since the last sample)",
+                result, unloggedRejections.getAndSet(0));
+    }
+
+    private static Role decodeRole(Claims claims) {
+        String code = claims.get(COMPACT_ROLE_CLAIM, String.class);
+        return code != null ? Role.fromCode(code) : Role.valueOf(claims.get(ROLE_CLAIM, String.class));
+    }
+
+    /**
+     * Picks the verification key from the kid header. Unknown or expired kids
+     * fail verification. As in TokenValidator, the alg is pinned (the HMAC alg
+     * of the secret without a kid, ES256 with one) and a crit header is
+     * rejected, so this path accepts exactly the same tokens.
+     */
+    private class KeyRingResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            if (header.containsKey("crit")) {
+                throw new MalformedJwtException("Unsupported critical header");
+            }
+            String kid = header.getKeyId();
+            if (kid == null) {
+                if (hmacKey == null) {
+                    throw new SignatureException("Token has no key id");
+                }
+                if (!hmacAlgorithm.getValue().equals(header.getAlgorithm())) {
+                    throw new SignatureException("Unexpected token algorithm");
+                }
+                return hmacKey;
+            }
+            if (!SignatureAlgorithm.ES256.getValue().equals(header.getAlgorithm())) {
+                throw new SignatureException("Unexpected token algorithm");
+            }
+            return keyRing.verificationKey(kid, clock.instant())
+                    .map(SigningKey::publicKey)
+                    .orElseThrow(() -> new SignatureException("Unknown signing key " + kid));
         }
     }
 }
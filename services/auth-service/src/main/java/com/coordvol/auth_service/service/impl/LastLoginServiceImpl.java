@@ -0,0 +1,113 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.LastLoginService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Write-behind buffer for last_login_at.
+ *
+ * Logins only record the time in a map keyed by user, so a user logging in
+ * repeatedly between flushes costs one entry. Every flush interval the map is
+ * drained into one UPDATE ... FROM (VALUES ...) per chunk, and once more on
+ * shutdown. A failed flush puts its entries back unless a newer login for the
+ * same user arrived meanwhile; a crash loses at most one interval of logins.
+ */
+@Slf4j
+@Service
+public class LastLoginServiceImpl implements LastLoginService, DisposableBean {
+
+    private final ConcurrentHashMap<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final AuthUserRepository authUserRepository;
+    private final Clock clock;
+    private final int chunkSize;
+    private final Duration shutdownTimeout;
+    private final Counter written;
+
+    public LastLoginServiceImpl(
+            AuthUserRepository authUserRepository,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${auth.last-login.chunk-size:1000}") int chunkSize,
+            @Value("${auth.last-login.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.authUserRepository = authUserRepository;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.written = Counter.builder("auth.last-login.writes")
+                .description("last_login_at values written by the buffer flush")
+                .register(meterRegistry);
+        Gauge.builder("auth.last-login.pending", pending, Map::size)
+                .description("Logins recorded but not written yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordLogin(UUID userId) {
+        pending.merge(userId, clock.instant(), LastLoginServiceImpl::latest);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval:5s}")
+    public Mono<Void> flush() {
+        return Mono.defer(() -> {
+            Map<UUID, Instant> batch = drain();
+            if (batch.isEmpty()) {
+                return Mono.empty();
+            }
+            return authUserRepository.updateLastLogins(batch, chunkSize)
+                    .doOnNext(written::increment)
+                    .onErrorResume(e -> {
+                        log.warn("Writing {} last login times failed, retrying with the next flush: {}",
+                                batch.size(), e.getMessage());
+                        batch.forEach((userId, at) -> pending.merge(userId, at, LastLoginServiceImpl::latest));
+                        return Mono.empty();
+                    })
+                    .then();
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (!pending.isEmpty()) {
+            log.info("Writing {} buffered last login times before shutdown", pending.size());
+            flush().block(shutdownTimeout);
+        }
+    }
+
+    /**
+     * Takes every entry out of the map. An entry overwritten by a concurrent
+     * login fails the conditional remove and stays for the next flush.
+     */
+    private Map<UUID, Instant> drain() {
+        Map<UUID, Instant> batch = new HashMap<>();
+        for (Map.Entry<UUID, Instant> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
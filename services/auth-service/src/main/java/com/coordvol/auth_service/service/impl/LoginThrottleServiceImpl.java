@@ -0,0 +1,131 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.coordvol.auth_service.domain.projection.LoginCredentials;
+import com.coordvol.auth_service.exception.TooManyRequestsException;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.security.TokenBucketLimiter;
+import com.coordvol.auth_service.service.LoginThrottleService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Brute-force protection for /auth/login, in two layers.
+ *
+ * In memory, token buckets per client address and per email cap the attempt
+ * rate before anything touches the database or the hashing pool; the address
+ * budget is generous because a whole shift may log in from one NAT. In the
+ * database, consecutive wrong passwords lock the user with an exponentially
+ * growing lockout, which holds across instances and restarts. A locked user
+ * gets the same 401 as a wrong password, since a distinct answer would tell
+ * a caller which emails have accounts. Rejections are counted in
+ * auth.login.throttled{reason}.
+ */
+@Slf4j
+@Service
+public class LoginThrottleServiceImpl implements LoginThrottleService {
+
+    private final AuthUserRepository authUserRepository;
+    private final Clock clock;
+    private final TokenBucketLimiter addressLimiter;
+    private final TokenBucketLimiter emailLimiter;
+    private final int lockoutThreshold;
+    private final Duration baseLockout;
+    private final Duration maxLockout;
+    private final Counter addressThrottled;
+    private final Counter emailThrottled;
+    private final Counter lockedThrottled;
+
+    public LoginThrottleServiceImpl(
+            AuthUserRepository authUserRepository,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${auth.login.rate-limit.slots:65536}") int slots,
+            @Value("${auth.login.rate-limit.address.capacity:50}") int addressCapacity,
+            @Value("${auth.login.rate-limit.address.refill-period:200ms}") Duration addressRefillPeriod,
+            @Value("${auth.login.rate-limit.email.capacity:10}") int emailCapacity,
+            @Value("${auth.login.rate-limit.email.refill-period:30s}") Duration emailRefillPeriod,
+            @Value("${auth.login.lockout.threshold:5}") int lockoutThreshold,
+            @Value("${auth.login.lockout.base-duration:1m}") Duration baseLockout,
+            @Value("${auth.login.lockout.max-duration:1h}") Duration maxLockout) {
+        this.authUserRepository = authUserRepository;
+        this.clock = clock;
+        this.addressLimiter = new TokenBucketLimiter(slots, addressCapacity, addressRefillPeriod);
+        this.emailLimiter = new TokenBucketLimiter(slots, emailCapacity, emailRefillPeriod);
+        this.lockoutThreshold = lockoutThreshold;
+        this.baseLockout = baseLockout;
+        this.maxLockout = maxLockout;
+        this.addressThrottled = throttledCounter(meterRegistry, "address");
+        this.emailThrottled = throttledCounter(meterRegistry, "email");
+        this.lockedThrottled = throttledCounter(meterRegistry, "locked");
+    }
+
+    @Override
+    public Mono<Void> checkAttempt(String clientAddress, String email) {
+        return Mono.defer(() -> {
+            long now = clock.millis();
+            long wait = addressLimiter.tryAcquire(clientAddress, now);
+            if (wait > 0) {
+                addressThrottled.increment();
+                return Mono.error(new TooManyRequestsException("Too many login attempts", Duration.ofMillis(wait)));
+            }
+            wait = emailLimiter.tryAcquire(email, now);
+            if (wait > 0) {
+                emailThrottled.increment();
+                return Mono.error(new TooManyRequestsException("Too many login attempts", Duration.ofMillis(wait)));
+            }
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Void> checkNotLocked(LoginCredentials credentials) {
+        return Mono.defer(() -> {
+            Instant now = clock.instant();
+            if (!credentials.isLocked(now)) {
+                return Mono.empty();
+            }
+            lockedThrottled.increment();
+            // Same answer as a wrong password, so a lockout does not reveal that the account exists
+            return Mono.error(new UnauthorizedException("Invalid credentials"));
+        });
+    }
+
+    @Override
+    public Mono<Void> recordFailure(UUID userId) {
+        return Mono.defer(() -> authUserRepository.recordFailedLogin(userId, clock.instant(), lockoutThreshold,
+                        baseLockout.toSeconds(), maxLockout.toSeconds()))
+                .onErrorResume(e -> {
+                    // The in-memory limits still apply; do not turn a bad password into a 500
+                    log.warn("Recording failed login for user {} failed: {}", userId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> recordSuccess(LoginCredentials credentials) {
+        if (credentials.failedLoginAttempts() == 0) {
+            return Mono.empty();
+        }
+        return authUserRepository.resetFailedLogins(credentials.id()).then();
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before the password was checked")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,146 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.coordvol.auth_service.domain.entity.RefreshToken;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.repository.RefreshTokenRepository;
+import com.coordvol.auth_service.service.RefreshTokenService;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final Duration refreshExpiration;
+    private final int purgeBatchSize;
+    private final Clock clock;
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            TransactionalOperator transactionalOperator,
+            @Value("${jwt.refresh-expiration:14d}") Duration refreshExpiration,
+            @Value("${auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize,
+            Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.refreshExpiration = refreshExpiration;
+        this.purgeBatchSize = purgeBatchSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<String> issue(UUID userId) {
+        return store(userId, UUID.randomUUID());
+    }
+
+    @Override
+    public Mono<Rotation> rotate(String refreshToken) {
+        String tokenHash = sha256Hex(refreshToken);
+        Instant now = clock.instant();
+        return transactionalOperator.transactional(refreshTokenRepository.consume(tokenHash, now)
+                .flatMap(consumed -> store(consumed.getUserId(), consumed.getFamilyId())
+                        .map(next -> new Rotation(consumed.getUserId(), next))))
+                .switchIfEmpty(Mono.defer(() -> rejectInvalid(tokenHash, now)));
+    }
+
+    @Override
+    public Mono<Void> revoke(UUID userId, String refreshToken) {
+        Instant now = clock.instant();
+        Mono<Integer> revoked = refreshToken == null
+                ? refreshTokenRepository.revokeAllForUser(userId, now)
+                : refreshTokenRepository.revokeFamilyOfToken(userId, sha256Hex(refreshToken), now);
+        return revoked
+                .doOnNext(count -> log.debug("Revoked {} refresh tokens of user {}", count, userId))
+                .then();
+    }
+
+    /**
+     * Deletes expired tokens in batches so a large backlog never becomes one long
+     * running DELETE.
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval:1h}")
+    public Mono<Void> purgeExpired() {
+        Instant now = clock.instant();
+        Mono<Integer> batch = Mono.defer(() -> refreshTokenRepository.deleteExpired(now, purgeBatchSize));
+        return batch
+                .expand(deleted -> deleted == purgeBatchSize ? batch : Mono.empty())
+                .reduce(0, Integer::sum)
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.info("Purged {} expired refresh tokens", total);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("Refresh token purge failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Rotation> rejectInvalid(String tokenHash, Instant now) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .flatMap(token -> {
+                    if (token.getUsedAt() != null && token.getRevokedAt() == null) {
+                        // A rotated token came back: assume it leaked and end the whole session
+                        log.warn("Refresh token reuse detected for user {}, revoking family {}",
+                                token.getUserId(), token.getFamilyId());
+                        return refreshTokenRepository.revokeFamily(token.getFamilyId(), now)
+                                .then(Mono.<Rotation>error(new UnauthorizedException("Refresh token reuse detected")));
+                    }
+                    if (token.getUsedAt() == null && token.getRevokedAt() == null && token.getExpiresAt().isAfter(now)) {
+                        // Live token, so consume() found its user not active
+                        return Mono.<Rotation>error(new UnauthorizedException("User is not active"));
+                    }
+                    return Mono.<Rotation>error(new UnauthorizedException("Invalid refresh token"));
+                })
+                .switchIfEmpty(Mono.error(new UnauthorizedException("Invalid refresh token")));
+    }
+
+    private Mono<String> store(UUID userId, UUID familyId) {
+        String token = newToken();
+        RefreshToken refreshToken = RefreshToken.builder()
+                .tokenHash(sha256Hex(token))
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(clock.instant().plus(refreshExpiration))
+                .build();
+        return refreshTokenRepository.save(refreshToken).thenReturn(token);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String sha256Hex(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
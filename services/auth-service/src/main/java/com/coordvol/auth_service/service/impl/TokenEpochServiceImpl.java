@@ -0,0 +1,157 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.security.TokenEpochMap;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.TokenEpochService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps every user's token epoch in memory, fed by LISTEN auth_token_epoch
+ * (see the V6 trigger).
+ *
+ * The listener holds one dedicated connection outside the pool. On every
+ * (re)connect it subscribes, issues LISTEN and only then reloads the bumped
+ * epochs, so no change can fall between the snapshot and the feed. While the
+ * feed is down the map may be stale and checks go to the database instead.
+ */
+@Slf4j
+@Service
+public class TokenEpochServiceImpl implements TokenEpochService, DisposableBean {
+
+    private static final String CHANNEL = "auth_token_epoch";
+
+    private final AuthUserRepository authUserRepository;
+    private final ConnectionFactory listenerConnectionFactory;
+    private final TokenEpochMap epochs;
+    private final Counter memoryChecks;
+    private final Counter storeChecks;
+
+    private volatile boolean ready;
+    private volatile Disposable subscription;
+
+    public TokenEpochServiceImpl(
+            AuthUserRepository authUserRepository,
+            MeterRegistry meterRegistry,
+            ConnectionFactoryOptions primaryConnectionOptions,
+            @Value("${auth.token-epoch.expected-users:10000}") int expectedUsers) {
+        this.authUserRepository = authUserRepository;
+        this.listenerConnectionFactory = ConnectionFactories.get(primaryConnectionOptions);
+        this.epochs = new TokenEpochMap(expectedUsers);
+        this.memoryChecks = Counter.builder("auth.jwt.epoch.checks")
+                .description("Token epoch checks by where they were answered")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.storeChecks = Counter.builder("auth.jwt.epoch.checks")
+                .description("Token epoch checks by where they were answered")
+                .tag("source", "store")
+                .register(meterRegistry);
+        Gauge.builder("auth.jwt.epoch.users", epochs, TokenEpochMap::size)
+                .description("Users with a bumped token epoch held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Boolean> isCurrent(TokenClaims claims) {
+        if (ready) {
+            memoryChecks.increment();
+            return Mono.just(claims.tokenEpoch() >= epochs.get(claims.userId()));
+        }
+        storeChecks.increment();
+        return authUserRepository.findTokenEpochById(claims.userId())
+                .map(epoch -> claims.tokenEpoch() >= epoch)
+                .defaultIfEmpty(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startListening() {
+        subscription = listen()
+                .doOnError(e -> {
+                    ready = false;
+                    log.warn("Token epoch feed lost, falling back to database checks: {}", e.getMessage());
+                })
+                // Backoff resets once the feed delivers again
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .transientErrors(true))
+                .subscribe(this::apply);
+    }
+
+    @Override
+    public void destroy() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Flux<Notification> listen() {
+        return Flux.usingWhen(
+                connect(),
+                connection -> Flux.merge(
+                        connection.getNotifications(),
+                        connection.createStatement("LISTEN " + CHANNEL).execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .then(reload())
+                                .then(Mono.empty()))
+                        .concatWith(Mono.error(new IllegalStateException("Notification stream closed"))),
+                PostgresqlConnection::close);
+    }
+
+    private Mono<Void> reload() {
+        return authUserRepository.findBumpedTokenEpochs()
+                .doOnNext(user -> epochs.put(user.id(), user.tokenEpoch()))
+                .count()
+                .doOnNext(count -> {
+                    ready = true;
+                    log.info("Token epoch feed connected, {} users with bumped epochs", count);
+                })
+                .then();
+    }
+
+    private void apply(Notification notification) {
+        String payload = notification.getParameter();
+        int separator = payload == null ? -1 : payload.lastIndexOf(':');
+        if (separator < 0) {
+            log.warn("Ignoring malformed token epoch notification: {}", payload);
+            return;
+        }
+        try {
+            epochs.put(UUID.fromString(payload.substring(0, separator)),
+                    Integer.parseInt(payload.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed token epoch notification: {}", payload);
+        }
+    }
+
+    /**
+     * A plain driver connection with the pool's options: pooled connections
+     * are recycled and would silently drop the LISTEN registration.
+     */
+    private Mono<PostgresqlConnection> connect() {
+        return Mono.from(listenerConnectionFactory.create()).cast(PostgresqlConnection.class);
+    }
+}
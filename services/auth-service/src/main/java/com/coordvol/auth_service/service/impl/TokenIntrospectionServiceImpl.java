@@ -0,0 +1,87 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+import com.coordvol.auth_service.exception.BadRequestException;
+import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.TokenEpochService;
+import com.coordvol.auth_service.service.TokenIntrospectionService;
+import com.coordvol.auth_service.service.TokenRevocationService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Signature checks are CPU bound, so a batch is spread over a small dedicated
+ * scheduler instead of the event loop; concurrency is capped at its size so
+ * one large batch cannot queue work ahead of every other request.
+ */
+@Service
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService, DisposableBean {
+
+    private static final TokenIntrospectionDTO INACTIVE = TokenIntrospectionDTO.builder().active(false).build();
+
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenEpochService tokenEpochService;
+    private final int maxBatchSize;
+    private final int parallelism;
+    private final Scheduler scheduler;
+
+    public TokenIntrospectionServiceImpl(
+            JwtService jwtService,
+            TokenRevocationService tokenRevocationService,
+            TokenEpochService tokenEpochService,
+            @Value("${auth.introspection.max-batch-size:100}") int maxBatchSize,
+            @Value("${auth.introspection.threads:0}") int threads) {
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenEpochService = tokenEpochService;
+        this.maxBatchSize = maxBatchSize;
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.scheduler = Schedulers.newParallel("token-introspection", parallelism, true);
+    }
+
+    @Override
+    public Mono<List<TokenIntrospectionDTO>> introspect(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            return Mono.error(new BadRequestException("At most " + maxBatchSize + " tokens per request"));
+        }
+        return Flux.fromIterable(tokens)
+                .flatMapSequential(this::introspect, parallelism)
+                .collectList();
+    }
+
+    private Mono<TokenIntrospectionDTO> introspect(String token) {
+        // Rejected tokens carry no claims and fromCallable completes empty on null
+        return Mono.fromCallable(() -> jwtService.verifyToken(token).claims())
+                .subscribeOn(scheduler)
+                .filterWhen(claims -> tokenRevocationService.isRevoked(claims).map(revoked -> !revoked))
+                .filterWhen(tokenEpochService::isCurrent)
+                .map(TokenIntrospectionServiceImpl::toActive)
+                .onErrorResume(e -> Mono.empty())
+                .defaultIfEmpty(INACTIVE);
+    }
+
+    private static TokenIntrospectionDTO toActive(TokenClaims claims) {
+        return TokenIntrospectionDTO.builder()
+                .active(true)
+                .userId(claims.userId())
+                .role(claims.role())
+                .expiresAt(claims.expiration())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,165 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.coordvol.auth_service.domain.entity.RevokedToken;
+import com.coordvol.auth_service.repository.RevokedTokenRepository;
+import com.coordvol.auth_service.security.RevokedTokenBloomFilter;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.TokenRevocationService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Revocation store fronted by a bloom filter.
+ *
+ * Every instance keeps its own filter: it is rebuilt from the unexpired rows on
+ * startup and periodically (which also forgets expired ids), and in between it
+ * picks up revocations made by other instances through an incremental sync on
+ * revoked_at. Until the first rebuild completes every check goes to the store.
+ * revoked_at and the sync watermark are both instants from the application
+ * clock, so the sync does not depend on the JVM and database time zones.
+ */
+@Slf4j
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    /**
+     * Re-reads a little before the watermark so rows committed late by a slow
+     * transaction on another instance are not skipped. Re-adding is harmless.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Clock clock;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter filteredChecks;
+    private final Counter storeChecks;
+
+    private volatile RevokedTokenBloomFilter filter;
+    private volatile Instant syncWatermark;
+
+    public TokenRevocationServiceImpl(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${auth.revocation.filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.revocation.filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filteredChecks = Counter.builder("auth.jwt.revocation.checks")
+                .description("Revocation checks by where they were answered")
+                .tag("source", "filter")
+                .register(meterRegistry);
+        this.storeChecks = Counter.builder("auth.jwt.revocation.checks")
+                .description("Revocation checks by where they were answered")
+                .tag("source", "store")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> revoke(TokenClaims claims) {
+        if (claims.tokenId() == null) {
+            // Issued before jti existed; it cannot be listed and simply runs out at its expiry
+            log.debug("Token of user {} has no jti, skipping revocation", claims.userId());
+            return Mono.empty();
+        }
+        Instant expiresAt = claims.expiration().toInstant();
+        return revokedTokenRepository.insertIfAbsent(claims.tokenId(), expiresAt, clock.instant())
+                .doOnSuccess(inserted -> {
+                    RevokedTokenBloomFilter current = filter;
+                    if (current != null) {
+                        current.add(claims.tokenId());
+                    }
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> isRevoked(TokenClaims claims) {
+        if (claims.tokenId() == null) {
+            // Issued before jti existed; nothing could have revoked it
+            return Mono.just(false);
+        }
+        RevokedTokenBloomFilter current = filter;
+        if (current != null && !current.mightContain(claims.tokenId())) {
+            filteredChecks.increment();
+            return Mono.just(false);
+        }
+        storeChecks.increment();
+        return revokedTokenRepository.isRevoked(claims.tokenId(), clock.instant());
+    }
+
+    /**
+     * Replaces the filter with one built from the unexpired rows, dropping ids of
+     * tokens that have expired since the last rebuild, then purges those rows.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auth.revocation.rebuild-interval:15m}")
+    public Mono<Void> rebuildFilter() {
+        return Mono.defer(() -> {
+            Instant startedAt = clock.instant();
+            return revokedTokenRepository.findUnexpired(startedAt)
+                    .map(RevokedToken::getJti)
+                    .collectList()
+                    .map(ids -> {
+                        RevokedTokenBloomFilter rebuilt = new RevokedTokenBloomFilter(
+                                Math.max(expectedInsertions, ids.size() * 2L), falsePositiveRate);
+                        ids.forEach(rebuilt::add);
+                        // Revocations made locally while loading are re-read by the next sync
+                        filter = rebuilt;
+                        syncWatermark = startedAt;
+                        return ids.size();
+                    })
+                    .doOnNext(size -> log.debug("Rebuilt revocation filter with {} tokens", size))
+                    .then(revokedTokenRepository.deleteExpired(startedAt))
+                    .doOnNext(deleted -> {
+                        if (deleted > 0) {
+                            log.info("Purged {} expired revoked tokens", deleted);
+                        }
+                    });
+        })
+                .onErrorResume(e -> {
+                    log.warn("Revocation filter rebuild failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Adds revocations recorded since the last sync, including those made by
+     * other instances.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:5s}")
+    public Mono<Void> syncFilter() {
+        RevokedTokenBloomFilter current = filter;
+        Instant watermark = syncWatermark;
+        if (current == null || watermark == null) {
+            return Mono.empty();
+        }
+        Instant startedAt = clock.instant();
+        return revokedTokenRepository.findRevokedSince(watermark.minus(SYNC_OVERLAP))
+                .doOnNext(token -> current.add(token.getJti()))
+                .then(Mono.fromRunnable(() -> {
+                    if (filter == current) {
+                        syncWatermark = startedAt;
+                    }
+                }))
+                .onErrorResume(e -> {
+                    log.warn("Revocation filter sync failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
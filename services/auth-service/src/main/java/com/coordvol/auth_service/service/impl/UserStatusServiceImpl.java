@@ -0,0 +1,104 @@
+package com.coordvol.auth_service.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.dto.BulkStatusUpdateRequestDTO;
+import com.coordvol.auth_service.dto.BulkStatusUpdateResponseDTO;
+import com.coordvol.auth_service.dto.UserStatusResponseDTO;
+import com.coordvol.auth_service.dto.UserStatusUpdateRequestDTO;
+import com.coordvol.auth_service.exception.BadRequestException;
+import com.coordvol.auth_service.exception.ConflictException;
+import com.coordvol.auth_service.exception.NotFoundException;
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.UserStatusService;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+public class UserStatusServiceImpl implements UserStatusService {
+
+    private final AuthUserRepository authUserRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final int chunkSize;
+
+    public UserStatusServiceImpl(
+            AuthUserRepository authUserRepository,
+            TransactionalOperator transactionalOperator,
+            @Value("${auth.bulk.status-chunk-size:1000}") int chunkSize) {
+        this.authUserRepository = authUserRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Mono<UserStatusResponseDTO> updateStatus(UUID userId, UserStatusUpdateRequestDTO request) {
+        // Same statement as the bulk path, so the token epoch is bumped the same way
+        return authUserRepository.existsById(userId)
+                .flatMap(exists -> exists
+                        ? keepingAnActiveAdmin(request.getStatus(), true,
+                                authUserRepository.updateStatusByIds(List.of(userId), request.getStatus(), chunkSize))
+                        : Mono.error(new NotFoundException("User not found")))
+                .doOnNext(updated -> {
+                    if (updated > 0) {
+                        log.info("Status of user {} changed to {}", userId, request.getStatus());
+                    }
+                })
+                .thenReturn(UserStatusResponseDTO.builder()
+                        .userId(userId)
+                        .status(request.getStatus())
+                        .build());
+    }
+
+    @Override
+    public Mono<BulkStatusUpdateResponseDTO> bulkUpdateStatus(UUID callerId, BulkStatusUpdateRequestDTO request) {
+        List<UUID> userIds = request.getUserIds();
+        boolean byIds = userIds != null && !userIds.isEmpty();
+        boolean byFilter = request.getRole() != null || request.getCreatedBefore() != null;
+        if (byIds == byFilter) {
+            return Mono.error(new BadRequestException("Provide either userIds or a filter (role, createdBefore)"));
+        }
+
+        // The caller is left out so an admin cannot lock themselves out with a filter
+        Mono<Long> updated = byIds
+                ? authUserRepository.updateStatusByIds(
+                        userIds.stream().distinct().filter(id -> !id.equals(callerId)).toList(),
+                        request.getStatus(), chunkSize)
+                : authUserRepository.updateStatusByFilter(request.getRole(), request.getCreatedBefore(), callerId,
+                        request.getStatus(), chunkSize);
+        boolean mayTouchAdmins = byIds || request.getRole() == null || request.getRole() == Role.ADMIN;
+
+        return keepingAnActiveAdmin(request.getStatus(), mayTouchAdmins, updated)
+                .doOnNext(count -> log.info("Bulk status change to {} updated {} users", request.getStatus(), count))
+                .map(count -> BulkStatusUpdateResponseDTO.builder()
+                        .status(request.getStatus())
+                        .requested(byIds ? userIds.size() : null)
+                        .updated(count)
+                        .build());
+    }
+
+    /**
+     * Runs a status change that may deactivate admins in a transaction that first
+     * locks the active admins, so concurrent changes cannot each remove a
+     * different one, and rolls it back when no active admin would be left.
+     */
+    private Mono<Long> keepingAnActiveAdmin(UserStatus status, boolean mayTouchAdmins, Mono<Long> update) {
+        if (status == UserStatus.ACTIVE || !mayTouchAdmins) {
+            return update;
+        }
+        return transactionalOperator.transactional(authUserRepository.lockActiveAdmins()
+                .then(update)
+                .flatMap(updated -> authUserRepository.countActiveAdmins()
+                        .flatMap(activeAdmins -> activeAdmins > 0
+                                ? Mono.just(updated)
+                                : Mono.error(new ConflictException("Cannot deactivate the last active admin")))));
+    }
+}
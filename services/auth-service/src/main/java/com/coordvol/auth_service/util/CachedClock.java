@@ -0,0 +1,69 @@
+package com.coordvol.auth_service.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Clock whose time is read from a field refreshed by a daemon thread every
+ * tick, instead of from the OS on every call.
+ *
+ * Token issuance and validation ask for the time several times per request;
+ * here millis() is a volatile read and instant() returns a shared Instant, so
+ * neither reads the system clock nor allocates. The price is that the time is
+ * up to one tick behind, which is fine for second-resolution JWT claims and
+ * millisecond timestamps. Call close() to stop the ticker.
+ */
+public final class CachedClock extends Clock implements AutoCloseable {
+
+    private final Clock source;
+    private final long tickNanos;
+    private final Thread ticker;
+
+    private volatile Instant now;
+    private volatile boolean running = true;
+
+    public CachedClock(Clock source, Duration tick) {
+        this.source = source;
+        this.tickNanos = tick.toNanos();
+        this.now = source.instant();
+        this.ticker = Thread.ofPlatform().daemon().name("cached-clock").unstarted(this::tick);
+        ticker.start();
+    }
+
+    private void tick() {
+        while (running) {
+            LockSupport.parkNanos(tickNanos);
+            now = source.instant();
+        }
+    }
+
+    @Override
+    public long millis() {
+        return now.toEpochMilli();
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return source.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        // Zone changes are rare and off the hot path; a plain clock will do
+        return zone.equals(getZone()) ? this : source.withZone(zone);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ticker.interrupt();
+    }
+}
@@ -0,0 +1,32 @@
+package com.coordvol.auth_service.util;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * UUIDs as 22-character base64url strings (the 16 raw bytes), used by the
+ * compact token profile. decode also accepts the canonical 36-character form.
+ */
+public final class CompactUuid {
+
+    private static final int ENCODED_LENGTH = 22;
+
+    private CompactUuid() {
+    }
+
+    public static String encode(UUID uuid) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    public static UUID decode(String value) {
+        if (value.length() != ENCODED_LENGTH) {
+            return UUID.fromString(value);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(value));
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+}
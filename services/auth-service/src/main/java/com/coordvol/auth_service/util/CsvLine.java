@@ -0,0 +1,64 @@
+package com.coordvol.auth_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits one CSV record (RFC 4180). Fields may be double-quoted so they can hold
+ * commas, and a doubled quote inside a quoted field stands for one quote.
+ * Records spanning several lines are not supported: a quote left open at the
+ * end of the line is reported as malformed.
+ */
+public final class CsvLine {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvLine() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if a quote is left open or a quoted field
+     *         is followed by anything but a separator
+     */
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            if (i < length && line.charAt(i) == QUOTE) {
+                i = readQuoted(line, i + 1, field);
+                if (i < length && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException("unexpected character after closing quote");
+                }
+            } else {
+                while (i < length && line.charAt(i) != SEPARATOR) {
+                    field.append(line.charAt(i++));
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= length) {
+                return fields;
+            }
+            i++; // separator
+        }
+    }
+
+    private static int readQuoted(String line, int i, StringBuilder field) {
+        int length = line.length();
+        while (i < length) {
+            char c = line.charAt(i++);
+            if (c != QUOTE) {
+                field.append(c);
+            } else if (i < length && line.charAt(i) == QUOTE) {
+                field.append(QUOTE);
+                i++;
+            } else {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unterminated quote");
+    }
+}
@@ -0,0 +1,34 @@
+package com.coordvol.auth_service.util;
+
+/**
+ * Canonical form for emails stored in and looked up from auth_users.
+ *
+ * Must stay in line with the lower(email) unique index and the
+ * email = lower(btrim(email)) check, see V2 migration. PostgreSQL's lower()
+ * depends on the database locale for anything but ASCII, so emails are
+ * restricted to ASCII (validated with ASCII_ONLY, also checked in V2) and only
+ * A-Z is folded here, which every locale does the same way.
+ */
+public final class EmailNormalizer {
+
+    /**
+     * Bean Validation pattern for email fields.
+     */
+    public static final String ASCII_ONLY = "\\p{ASCII}*";
+
+    private EmailNormalizer() {
+    }
+
+    public static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        char[] chars = email.trim().toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] = (char) (chars[i] + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+}
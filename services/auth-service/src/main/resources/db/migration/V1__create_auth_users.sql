@@ -0,0 +1,13 @@
+CREATE TABLE auth_users (
+    id            UUID         PRIMARY KEY DEFAULT gen_random_uuid(),
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    role          VARCHAR(20)  NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    last_login_at TIMESTAMPTZ,
+    created_at    TIMESTAMP    NOT NULL DEFAULT now(),
+    updated_at    TIMESTAMP,
+    created_by    VARCHAR(36),
+    updated_by    VARCHAR(36),
+    CONSTRAINT uk_auth_users_email UNIQUE (email)
+);
@@ -0,0 +1,12 @@
+-- Emails are stored trimmed and lower-cased and looked up with lower(email).
+ALTER TABLE auth_users DROP CONSTRAINT uk_auth_users_email;
+
+-- INCLUDE (email) lets existsByEmail run as an index-only scan
+CREATE UNIQUE INDEX ux_auth_users_email_lower ON auth_users (lower(email)) INCLUDE (email);
+
+ALTER TABLE auth_users
+    ADD CONSTRAINT ck_auth_users_email_normalized CHECK (email = lower(btrim(email)));
+
+-- lower() only agrees with the application's EmailNormalizer for ASCII
+ALTER TABLE auth_users
+    ADD CONSTRAINT ck_auth_users_email_ascii CHECK (email ~ '^[\x01-\x7F]*$');
@@ -0,0 +1,16 @@
+-- Transactional outbox for events that must reach other services (e.g. User Service profile creation).
+-- Rows are written in the same transaction as the auth_users change and deleted once delivered.
+-- A row that keeps failing is dead-lettered: kept with its last error, no longer claimed.
+CREATE TABLE auth_outbox (
+    id               BIGSERIAL    PRIMARY KEY,
+    aggregate_id     UUID         NOT NULL,
+    event_type       VARCHAR(64)  NOT NULL,
+    payload          JSONB        NOT NULL,
+    attempts         INT          NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    last_error       VARCHAR(500),
+    dead_lettered_at TIMESTAMPTZ,
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+CREATE INDEX ix_auth_outbox_next_attempt ON auth_outbox (next_attempt_at, id) WHERE dead_lettered_at IS NULL;
@@ -0,0 +1,17 @@
+-- Opaque refresh tokens, stored as SHA-256 hex digests only
+CREATE TABLE auth_refresh_tokens (
+    id          UUID        PRIMARY KEY DEFAULT gen_random_uuid(),
+    token_hash  CHAR(64)    NOT NULL,
+    user_id     UUID        NOT NULL REFERENCES auth_users (id) ON DELETE CASCADE,
+    family_id   UUID        NOT NULL,
+    expires_at  TIMESTAMPTZ NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    used_at     TIMESTAMPTZ,
+    revoked_at  TIMESTAMPTZ
+);
+
+CREATE UNIQUE INDEX ux_auth_refresh_tokens_hash ON auth_refresh_tokens (token_hash);
+CREATE INDEX ix_auth_refresh_tokens_family ON auth_refresh_tokens (family_id);
+CREATE INDEX ix_auth_refresh_tokens_expires ON auth_refresh_tokens (expires_at);
+-- Logout without a refresh token revokes all of the user's families
+CREATE INDEX ix_auth_refresh_tokens_user ON auth_refresh_tokens (user_id);
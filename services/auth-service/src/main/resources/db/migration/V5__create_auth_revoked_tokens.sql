@@ -0,0 +1,10 @@
+-- Access tokens revoked before their expiry, keyed by the jti claim.
+-- Rows are useless once expires_at has passed and are purged.
+CREATE TABLE auth_revoked_tokens (
+    jti         UUID        PRIMARY KEY,
+    expires_at  TIMESTAMPTZ NOT NULL,
+    revoked_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX ix_auth_revoked_tokens_revoked_at ON auth_revoked_tokens (revoked_at);
+CREATE INDEX ix_auth_revoked_tokens_expires_at ON auth_revoked_tokens (expires_at);
@@ -0,0 +1,18 @@
+-- Access tokens carry the user's token epoch; bumping it invalidates every
+-- token issued before. Status changes and password changes bump it.
+ALTER TABLE auth_users ADD COLUMN token_epoch INTEGER NOT NULL DEFAULT 0;
+
+-- Instances keep epochs in memory and learn about bumps via LISTEN auth_token_epoch.
+-- Payload is "<user id>:<epoch>".
+CREATE FUNCTION notify_auth_token_epoch() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('auth_token_epoch', NEW.id::text || ':' || NEW.token_epoch);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tr_auth_users_token_epoch
+    AFTER UPDATE OF token_epoch ON auth_users
+    FOR EACH ROW
+    WHEN (NEW.token_epoch IS DISTINCT FROM OLD.token_epoch)
+    EXECUTE FUNCTION notify_auth_token_epoch();
@@ -0,0 +1,4 @@
+-- Consecutive failed logins and the resulting lockout. A locked user is
+-- rejected before the password is hashed; a successful login resets both.
+ALTER TABLE auth_users ADD COLUMN failed_login_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE auth_users ADD COLUMN locked_until TIMESTAMPTZ;
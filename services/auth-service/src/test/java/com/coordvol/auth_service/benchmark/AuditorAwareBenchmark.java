@@ -0,0 +1,117 @@
+package com.coordvol.auth_service.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+
+import com.coordvol.auth_service.config.SecurityAuditorAware;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Auditing overhead per row of a batch insert.
+ *
+ * Each row of a batch asks the auditor for created_by/updated_by once, as
+ * R2DBC auditing does per entity. "before" is the previous implementation
+ * (UUID parse, fresh Mono and debug formatting per call), "after" the current
+ * SecurityAuditorAware; both with no security context (scheduled jobs,
+ * sign-up) and with an authenticated user. Results are per row.
+ *
+ * Run with the benchmark profile, which adds the GC profiler (B/op):
+ *     mvn -P benchmark verify -DskipTests -Djmh.include=AuditorAwareBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditorAwareBenchmark {
+
+    private static final int ROWS = 200;
+
+    @Param({"before", "after"})
+    public String implementation;
+
+    @Param({"system", "authenticated"})
+    public String caller;
+
+    private ReactiveAuditorAware<?> auditorAware;
+    private Context context;
+
+    @Setup
+    public void setUp() {
+        auditorAware = implementation.equals("before") ? new LegacyAuditorAware() : new SecurityAuditorAware();
+        if (caller.equals("authenticated")) {
+            Authentication authentication = new UsernamePasswordAuthenticationToken(UUID.randomUUID(), "token",
+                    List.of(new SimpleGrantedAuthority("ROLE_VOLUNTEER")));
+            context = ReactiveSecurityContextHolder.withAuthentication(authentication);
+        } else {
+            context = Context.empty();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object auditBatch() {
+        return Flux.range(0, ROWS)
+                .concatMap(row -> auditorAware.getCurrentAuditor())
+                .contextWrite(context)
+                .blockLast();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuditorAwareBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    /**
+     * SecurityAuditorAware as it was before, kept as the baseline.
+     */
+    private static final class LegacyAuditorAware implements ReactiveAuditorAware<UUID> {
+
+        private static final Logger log = LoggerFactory.getLogger(LegacyAuditorAware.class);
+
+        @Override
+        public Mono<UUID> getCurrentAuditor() {
+            return ReactiveSecurityContextHolder.getContext()
+                    .map(SecurityContext::getAuthentication)
+                    .filter(Authentication::isAuthenticated)
+                    .map(Authentication::getPrincipal)
+                    .cast(UUID.class)
+                    .doOnNext(userId -> log.debug("Current auditor: {}", userId))
+                    .switchIfEmpty(Mono.defer(() -> {
+                        log.debug("No authentication context, using system user for Audit");
+                        return Mono.just(UUID.fromString("00000000-0000-0000-0000-000000000000"));
+                    }));
+        }
+    }
+}
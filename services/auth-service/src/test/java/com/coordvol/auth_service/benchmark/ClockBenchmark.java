@@ -0,0 +1,88 @@
+package com.coordvol.auth_service.benchmark;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.coordvol.auth_service.util.CachedClock;
+
+/**
+ * Cost of reading the time from the application clock.
+ *
+ * "system" is Clock.systemDefaultZone(), which asks the OS on every call and
+ * allocates an Instant; "cached" is the CachedClock with the default 1ms tick
+ * that ClockConfig exposes. Token issuance, validation and login each read
+ * the clock several times per request, so instant() is also measured with
+ * several threads reading at once.
+ *
+ * Run with the benchmark profile, which adds the GC profiler (B/op):
+ *     mvn -P benchmark verify -DskipTests -Djmh.include=ClockBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClockBenchmark {
+
+    @Param({"system", "cached"})
+    public String implementation;
+
+    private Clock clock;
+
+    @Setup
+    public void setUp() {
+        clock = implementation.equals("system")
+                ? Clock.systemDefaultZone()
+                : new CachedClock(Clock.systemDefaultZone(), Duration.ofMillis(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (clock instanceof CachedClock cached) {
+            cached.close();
+        }
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    @Benchmark
+    public long millis() {
+        return clock.millis();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Instant instantContended() {
+        return clock.instant();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ClockBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
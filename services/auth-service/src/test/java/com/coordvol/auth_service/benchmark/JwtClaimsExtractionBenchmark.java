@@ -0,0 +1,77 @@
+package com.coordvol.auth_service.benchmark;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.testutil.JwtServiceBuilder;
+
+/**
+ * Compares reading userId, role and expiration through the per-field
+ * extract* methods (one signature verification each) against a single
+ * parseClaims call.
+ *
+ * Run with: java -cp target/test-classes:<test classpath> \
+ *     com.coordvol.auth_service.benchmark.JwtClaimsExtractionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtClaimsExtractionBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtServiceBuilder.jwtService(SECRET, 3600000L, "auth-service-bench").build();
+        token = jwtService.generateToken(UUID.randomUUID(), Role.VOLUNTEER);
+    }
+
+    @Benchmark
+    public void perFieldExtraction(Blackhole bh) {
+        UUID userId = jwtService.extractUserId(token);
+        Role role = jwtService.extractRole(token);
+        Date expiration = jwtService.extractExpiration(token);
+        bh.consume(userId);
+        bh.consume(role);
+        bh.consume(expiration);
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole bh) {
+        TokenClaims claims = jwtService.parseClaims(token);
+        bh.consume(claims.userId());
+        bh.consume(claims.role());
+        bh.consume(claims.expiration());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtClaimsExtractionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
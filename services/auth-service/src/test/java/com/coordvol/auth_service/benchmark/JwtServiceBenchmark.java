@@ -0,0 +1,141 @@
+package com.coordvol.auth_service.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.testutil.JwtServiceBuilder;
+
+/**
+ * Throughput and allocation of the JwtService entry points.
+ *
+ * generateToken runs once; validateToken and every extract* method run for a
+ * valid, an expired and a tampered token. Failing extract* calls return the
+ * exception so the cost of the error path is measured too. The verified token
+ * cache is disabled so each call does the full parse.
+ *
+ * Run with the benchmark profile, which adds the GC profiler (B/op):
+ *     mvn -P benchmark verify -DskipTests
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF";
+    private static final String ISSUER = "auth-service-bench";
+    private static final long EXPIRATION = 3600000L;
+
+    private JwtService jwtService;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtServiceBuilder.jwtService(SECRET, EXPIRATION, ISSUER).build();
+        userId = UUID.randomUUID();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+
+        @Param({"valid", "expired", "tampered"})
+        public String kind;
+
+        String token;
+
+        @Setup
+        public void setUp() {
+            UUID userId = UUID.randomUUID();
+            token = switch (kind) {
+                case "valid" -> JwtServiceBuilder.jwtService(SECRET, EXPIRATION, ISSUER).build().generateToken(userId, Role.VOLUNTEER);
+                case "expired" -> JwtServiceBuilder.jwtService(SECRET, -EXPIRATION, ISSUER).build().generateToken(userId, Role.VOLUNTEER);
+                case "tampered" -> tamper(JwtServiceBuilder.jwtService(SECRET, EXPIRATION, ISSUER).build()
+                        .generateToken(userId, Role.VOLUNTEER));
+                default -> throw new IllegalArgumentException(kind);
+            };
+        }
+
+        /**
+         * Changes one character in the middle of the signature; the last one
+         * may only carry padding bits and leave the signature intact.
+         */
+        private static String tamper(String token) {
+            int signatureStart = token.lastIndexOf('.') + 1;
+            int index = signatureStart + (token.length() - signatureStart) / 2;
+            char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+            return token.substring(0, index) + replacement + token.substring(index + 1);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userId, Role.VOLUNTEER);
+    }
+
+    @Benchmark
+    public Boolean validateToken(Tokens tokens) {
+        return jwtService.validateToken(tokens.token);
+    }
+
+    @Benchmark
+    public Object extractUserId(Tokens tokens) {
+        try {
+            return jwtService.extractUserId(tokens.token);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object extractRole(Tokens tokens) {
+        try {
+            return jwtService.extractRole(tokens.token);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object extractExpiration(Tokens tokens) {
+        try {
+            return jwtService.extractExpiration(tokens.token);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object extractIssuer(Tokens tokens) {
+        try {
+            return jwtService.extractIssuer(tokens.token);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.coordvol.auth_service.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.security.SigningKeyRing;
+import com.coordvol.auth_service.security.SigningKeyRing.SigningKey;
+import com.coordvol.auth_service.service.JwtService;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.testutil.JwtServiceBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Standard vs compact token profile, for both signing modes.
+ *
+ * Setup logs the token and Authorization header size per profile; the
+ * benchmarks measure a full parse (verified token cache disabled).
+ *
+ * Run with: java -cp target/test-classes:<test classpath> \
+ *     com.coordvol.auth_service.benchmark.JwtTokenProfileBenchmark
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProfileBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF";
+    private static final String ISSUER = "auth-service";
+
+    @Param({"standard", "compact"})
+    public String profile;
+
+    @Param({"HS256", "ES256"})
+    public String algorithm;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        SigningKeyRing keyRing = "ES256".equals(algorithm) ? ecKeyRing() : SigningKeyRing.empty();
+        jwtService = JwtServiceBuilder.jwtService(SECRET, 3600000L, ISSUER)
+                .keyRing(keyRing)
+                .compact("compact".equals(profile))
+                .build();
+        token = jwtService.generateToken(UUID.randomUUID(), Role.VOLUNTEER, 0);
+        log.info("{}/{}: token {} bytes, Authorization header {} bytes",
+                profile, algorithm, token.length(), "Authorization: Bearer ".length() + token.length());
+    }
+
+    @Benchmark
+    public TokenClaims parse() {
+        return jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(UUID.randomUUID(), Role.VOLUNTEER, 0);
+    }
+
+    private static SigningKeyRing ecKeyRing() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        return new SigningKeyRing(List.of(new SigningKey("bench", (ECPublicKey) keyPair.getPublic(),
+                keyPair.getPrivate(), Instant.EPOCH, null)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProfileBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,165 @@
+package com.coordvol.auth_service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for BatchingTokenIntrospectionClient.
+ */
+@DisplayName("Batching Token Introspection Client Test")
+public class BatchingTokenIntrospectionClientTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(50);
+    private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final List<BatchingTokenIntrospectionClient> clients = new ArrayList<>();
+    private WebClient answeringWebClient;
+
+    @BeforeEach
+    void setUp() {
+        // Answers every batch as if it contained the two distinct tokens "a" and "b"
+        answeringWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return Mono.just(response());
+                })
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(BatchingTokenIntrospectionClient::close);
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent lookups into one request")
+    void shouldCoalesceConcurrentLookups() {
+        // Arrange
+        BatchingTokenIntrospectionClient client = client(answeringWebClient, WINDOW, 4, LOOKUP_TIMEOUT);
+        List<String> tokens = List.of("a", "b", "a", "b", "a", "a", "b", "a");
+
+        // Act & Assert
+        StepVerifier.create(Flux.fromIterable(tokens).flatMap(token -> client.introspect(token)
+                        .map(TokenIntrospectionDTO::isActive)
+                        .map(active -> token + "=" + active)).collectList())
+                .assertNext(results -> assertThat(results)
+                        .hasSize(tokens.size())
+                        .allMatch(result -> result.equals("a=true") || result.equals("b=false")))
+                .verifyComplete();
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold lookups back while every batch slot is in flight")
+    void shouldQueueWhileBatchesSaturated() throws Exception {
+        // Arrange
+        BlockingQueue<Sinks.One<ClientResponse>> inFlight = new LinkedBlockingQueue<>();
+        WebClient heldWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    Sinks.One<ClientResponse> response = Sinks.one();
+                    inFlight.add(response);
+                    return response.asMono();
+                })
+                .build();
+        BatchingTokenIntrospectionClient client = client(heldWebClient, Duration.ofMillis(10), 1, LOOKUP_TIMEOUT);
+        CompletableFuture<TokenIntrospectionDTO> first = client.introspect("a").toFuture();
+        Sinks.One<ClientResponse> firstResponse = inFlight.poll(1, TimeUnit.SECONDS);
+
+        // Act: the window fires several times while the only batch slot is taken
+        List<CompletableFuture<TokenIntrospectionDTO>> queued = List.of(
+                client.introspect("a").toFuture(), client.introspect("b").toFuture());
+        Thread.sleep(100);
+        assertThat(inFlight).isEmpty();
+        firstResponse.tryEmitValue(response());
+        Sinks.One<ClientResponse> secondResponse = inFlight.poll(1, TimeUnit.SECONDS);
+        assertThat(secondResponse).isNotNull();
+        secondResponse.tryEmitValue(response());
+
+        // Assert
+        assertThat(first.get(1, TimeUnit.SECONDS).isActive()).isTrue();
+        for (CompletableFuture<TokenIntrospectionDTO> lookup : queued) {
+            assertThat(lookup.get(1, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(inFlight).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fail a lookup that gets no answer within the lookup timeout")
+    void shouldTimeOutLookup() {
+        // Arrange
+        WebClient silentWebClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.never())
+                .build();
+        BatchingTokenIntrospectionClient client = client(silentWebClient, WINDOW, 4, Duration.ofMillis(200));
+
+        // Act & Assert
+        StepVerifier.create(client.introspect("a"))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should fail pending lookups and keep serving after the batching pipeline fails")
+    void shouldRestartAfterPipelineFailure() {
+        // Arrange: building the first request throws outside the reactive chain
+        WebClient failingOnce = mock(WebClient.class);
+        when(failingOnce.post())
+                .thenThrow(new IllegalStateException("client misconfigured"))
+                .thenAnswer(invocation -> answeringWebClient.post());
+        BatchingTokenIntrospectionClient client = client(failingOnce, WINDOW, 4, LOOKUP_TIMEOUT);
+
+        // Act & Assert
+        StepVerifier.create(client.introspect("a"))
+                .expectErrorMessage("client misconfigured")
+                .verify(Duration.ofSeconds(2));
+        StepVerifier.create(client.introspect("a").map(TokenIntrospectionDTO::isActive))
+                .expectNext(true)
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+    }
+
+    private BatchingTokenIntrospectionClient client(WebClient webClient, Duration window,
+            int maxConcurrentBatches, Duration lookupTimeout) {
+        BatchingTokenIntrospectionClient client = new BatchingTokenIntrospectionClient(
+                webClient, "secret", window, 100, maxConcurrentBatches, lookupTimeout);
+        clients.add(client);
+        return client;
+    }
+
+    private static ClientResponse response() {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("[{\"active\":true,\"role\":\"VOLUNTEER\"},{\"active\":false}]")
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.coordvol.auth_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.EllipticCurve;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import com.coordvol.auth_service.security.SigningKeyRing;
+
+/**
+ * Unit tests for JwtSigningConfig.
+ */
+@DisplayName("JWT Signing Config Test")
+public class JwtSigningConfigTest {
+
+    private static final long EXPIRATION_MILLIS = 900_000;
+
+    private final JwtSigningConfig config = new JwtSigningConfig();
+
+    @Test
+    @DisplayName("Should load a P-256 key pair able to sign")
+    void shouldLoadMatchingKeyPair() throws Exception {
+        // Arrange
+        KeyPair pair = generate("secp256r1");
+
+        // Act
+        SigningKeyRing ring = config.signingKeyRing(properties(key("k1", pair, pair)), EXPIRATION_MILLIS);
+
+        // Assert
+        assertThat(ring.signingKey(Instant.now())).hasValueSatisfying(key -> assertThat(key.kid()).isEqualTo("k1"));
+    }
+
+    @Test
+    @DisplayName("Should reject a private key that does not belong to its public key")
+    void shouldRejectMismatchedKeyPair() throws Exception {
+        // Arrange
+        JwtSigningProperties properties = properties(key("k1", generate("secp256r1"), generate("secp256r1")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> config.signingKeyRing(properties, EXPIRATION_MILLIS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("does not match its public key");
+    }
+
+    @Test
+    @DisplayName("Should reject a key on another curve")
+    void shouldRejectOtherCurve() throws Exception {
+        // Arrange
+        KeyPair pair = generate("secp384r1");
+        JwtSigningProperties properties = properties(key("k1", pair, null));
+
+        // Act & Assert
+        assertThatThrownBy(() -> config.signingKeyRing(properties, EXPIRATION_MILLIS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not a P-256 key");
+    }
+
+    @Test
+    @DisplayName("Should reject a 256-bit curve that differs from P-256 in its coefficients")
+    void shouldRejectCurveWithSameFieldSize() throws Exception {
+        // Arrange: P-256 with another b, which keeps the field and its size
+        ECParameterSpec p256 = ((ECPublicKey) generate("secp256r1").getPublic()).getParams();
+        EllipticCurve curve = p256.getCurve();
+        ECParameterSpec lookalike = new ECParameterSpec(
+                new EllipticCurve(curve.getField(), curve.getA(), curve.getB().add(BigInteger.ONE)),
+                p256.getGenerator(), p256.getOrder(), p256.getCofactor());
+
+        // Act & Assert
+        JwtSigningConfig.requireP256("k1", p256);
+        assertThat(lookalike.getCurve().getField().getFieldSize()).isEqualTo(256);
+        assertThatThrownBy(() -> JwtSigningConfig.requireP256("k1", lookalike))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not a P-256 key");
+    }
+
+    private static KeyPair generate(String curve) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(curve));
+        return generator.generateKeyPair();
+    }
+
+    private static JwtSigningProperties.Key key(String kid, KeyPair publicPart, KeyPair privatePart) {
+        return new JwtSigningProperties.Key(kid,
+                pem("PUBLIC KEY", publicPart.getPublic().getEncoded()),
+                privatePart != null ? pem("PRIVATE KEY", privatePart.getPrivate().getEncoded()) : null,
+                null, null);
+    }
+
+    private static JwtSigningProperties properties(JwtSigningProperties.Key... keys) {
+        return new JwtSigningProperties(List.of(keys));
+    }
+
+    private static Resource pem(String type, byte[] der) {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        return new ByteArrayResource(pem.getBytes(StandardCharsets.US_ASCII));
+    }
+}
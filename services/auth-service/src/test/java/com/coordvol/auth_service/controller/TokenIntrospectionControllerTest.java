@@ -0,0 +1,106 @@
+package com.coordvol.auth_service.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+import com.coordvol.auth_service.dto.TokenIntrospectionRequestDTO;
+import com.coordvol.auth_service.service.TokenIntrospectionService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for the client secret check of TokenIntrospectionController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Introspection Controller Test")
+public class TokenIntrospectionControllerTest {
+
+    private static final String SECRET_HEADER = "X-Introspection-Secret";
+    private static final String SECRET = "gateway-shared-secret";
+    private static final TokenIntrospectionRequestDTO REQUEST = new TokenIntrospectionRequestDTO(List.of("token"));
+
+    @Mock
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @Test
+    @DisplayName("Should introspect when the client secret matches")
+    void shouldAcceptMatchingSecret() {
+        // Arrange
+        when(tokenIntrospectionService.introspect(List.of("token")))
+                .thenReturn(Mono.just(List.of(TokenIntrospectionDTO.builder().active(false).build())));
+
+        // Act & Assert
+        client(SECRET).post()
+                .uri("/auth/introspect")
+                .header(SECRET_HEADER, SECRET)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].active").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong client secret")
+    void shouldRejectWrongSecret() {
+        // Act & Assert
+        client(SECRET).post()
+                .uri("/auth/introspect")
+                .header(SECRET_HEADER, SECRET + "x")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verify(tokenIntrospectionService, never()).introspect(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a request without the client secret")
+    void shouldRejectMissingSecret() {
+        // Act & Assert
+        client(SECRET).post()
+                .uri("/auth/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verify(tokenIntrospectionService, never()).introspect(any());
+    }
+
+    @Test
+    @DisplayName("Should reject every request while no client secret is configured")
+    void shouldRejectWhenSecretNotConfigured() {
+        // Act & Assert
+        client("").post()
+                .uri("/auth/introspect")
+                .header(SECRET_HEADER, "")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verify(tokenIntrospectionService, never()).introspect(any());
+    }
+
+    private WebTestClient client(String configuredSecret) {
+        return WebTestClient.bindToController(
+                        new TokenIntrospectionController(tokenIntrospectionService, configuredSecret))
+                .build();
+    }
+}
@@ -20,9 +20,12 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.coordvol.auth_service.domain.enums.Language;
 import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.dto.BulkUserResultDTO;
 import com.coordvol.auth_service.dto.LoginRequestDTO;
 import com.coordvol.auth_service.dto.LoginResponseDTO;
+import com.coordvol.auth_service.dto.RefreshTokenRequestDTO;
 import com.coordvol.auth_service.dto.RegisterRequestDTO;
+import com.coordvol.auth_service.dto.RegisterResponseDTO;
 
 /**
  * End-to-End tests for complete user journeys.
@@ -119,12 +122,22 @@ public class UserJourneyE2ETest {
                 .jsonPath("$.role").isEqualTo("VOLUNTEER")
                 .jsonPath("$.status").isEqualTo("ACTIVE");
 
-        // Step 4: Logout
+        // Step 4: Logout, ending the refresh token family too
         webTestClient.post()
                 .uri("/auth/logout")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + loginResponse.getToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(RefreshTokenRequestDTO.builder().refreshToken(loginResponse.getRefreshToken()).build())
                 .exchange()
                 .expectStatus().isNoContent();
+
+        // Step 5: The refresh token no longer works
+        webTestClient.post()
+                .uri("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(RefreshTokenRequestDTO.builder().refreshToken(loginResponse.getRefreshToken()).build())
+                .exchange()
+                .expectStatus().isUnauthorized();
     }
 
     @Test
@@ -192,23 +205,21 @@ public class UserJourneyE2ETest {
         // Step 2: Create new user
         String newUserEmail = "managed-user-" + UUID.randomUUID() + "@example.com";
 
-        CreateUserResponseDTO createUserResponseDTO = webTestClient.post()
-                .uri("/auth/users")
+        BulkUserResultDTO createResult = webTestClient.post()
+                .uri("/auth/users/bulk")
                 .header(HttpHeaders.AUTHORIZATION, adminToken)
-                .contentType(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
                 .bodyValue("""
-                        {
-                            "email": "%s",
-                            "password": "password123",
-                            "role": "VOLUNTEER"
-                        }
+                        {"email": "%s", "password": "password123", "role": "VOLUNTEER"}
                         """.formatted(newUserEmail))
                 .exchange()
-                .expectStatus().isCreated()
-                .expectBody(CreateUserResponseDTO.class)
-                .returnResult()
-                .getResponseBody();
-        createUserResponseDTO.getId();
+                .expectStatus().isOk()
+                .returnResult(BulkUserResultDTO.class)
+                .getResponseBody()
+                .blockFirst();
+
+        assertThat(createResult.getStatus()).isEqualTo(BulkUserResultDTO.Status.CREATED);
+        assertThat(createResult.getUserId()).isNotNull();
 
         // Extract userId from response (in real scenario)
         // For now, we'll verify the user can login
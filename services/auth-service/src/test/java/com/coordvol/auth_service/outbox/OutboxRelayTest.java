@@ -0,0 +1,159 @@
+package com.coordvol.auth_service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coordvol.auth_service.domain.enums.Language;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+import com.coordvol.auth_service.testutil.InMemoryUserServiceClient;
+import com.coordvol.auth_service.testutil.MutableClock;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for OutboxRelay using the in-memory User Service stand-in.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox Relay Test")
+public class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T07:30:00Z");
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final MutableClock clock = new MutableClock(NOW);
+    private InMemoryUserServiceClient userServiceClient;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        userServiceClient = new InMemoryUserServiceClient();
+        relay = relay(10);
+    }
+
+    @Test
+    @DisplayName("Should deliver pending events and delete them")
+    void shouldDeliverAndDelete() {
+        // Arrange
+        UserProfileCreatedEvent event = anEvent();
+        when(outboxRepository.claimBatch(any(), any(), anyInt())).thenReturn(Flux.just(message(1L, event, 0)));
+        when(outboxRepository.delete(1L)).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(relay.relayPending()).verifyComplete();
+
+        // Assert
+        assertThat(userServiceClient.getProfiles()).containsExactly(event);
+        verify(outboxRepository).delete(1L);
+    }
+
+    @Test
+    @DisplayName("Should reschedule with backoff when delivery fails")
+    void shouldRescheduleOnFailure() {
+        // Arrange
+        userServiceClient.failNextCalls(1);
+        when(outboxRepository.claimBatch(any(), any(), anyInt())).thenReturn(Flux.just(message(2L, anEvent(), 2)));
+        when(outboxRepository.reschedule(eq(2L), eq(3), any(), any())).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(relay.relayPending()).verifyComplete();
+
+        // Assert
+        assertThat(userServiceClient.getProfiles()).isEmpty();
+        verify(outboxRepository, never()).delete(2L);
+        verify(outboxRepository).reschedule(eq(2L), eq(3), eq(NOW.plusSeconds(4)), any());
+    }
+
+    @Test
+    @DisplayName("Should lease the batch from the application clock for one timeout per publishing round")
+    void shouldLeaseBatchFromClock() {
+        // Arrange: 100 events published 10 at a time take at most 10 timeouts, plus the settle margin
+        when(outboxRepository.claimBatch(NOW, NOW.plusSeconds(15), 100)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(relay.relayPending()).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should settle each delivered event before publishing the next")
+    void shouldSettleEachEventBeforeTheNext() {
+        // Arrange
+        relay = relay(1);
+        UserProfileCreatedEvent first = anEvent();
+        UserProfileCreatedEvent second = anEvent();
+        when(outboxRepository.claimBatch(any(), any(), anyInt()))
+                .thenReturn(Flux.just(message(1L, first, 0), message(2L, second, 0)));
+        when(outboxRepository.delete(1L)).thenReturn(Mono.fromRunnable(
+                () -> assertThat(userServiceClient.getProfiles()).containsExactly(first)));
+        when(outboxRepository.delete(2L)).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(relay.relayPending()).verifyComplete();
+
+        // Assert
+        assertThat(userServiceClient.getProfiles()).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an event once it reaches the attempt limit")
+    void shouldDeadLetterAfterMaxAttempts() {
+        // Arrange
+        userServiceClient.failNextCalls(1);
+        when(outboxRepository.claimBatch(any(), any(), anyInt()))
+                .thenReturn(Flux.just(message(3L, anEvent(), MAX_ATTEMPTS - 1)));
+        when(outboxRepository.deadLetter(eq(3L), eq(MAX_ATTEMPTS), eq(NOW), any())).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(relay.relayPending()).verifyComplete();
+
+        // Assert
+        verify(outboxRepository).deadLetter(eq(3L), eq(MAX_ATTEMPTS), eq(NOW), any());
+        verify(outboxRepository, never()).reschedule(anyLong(), anyInt(), any(), any());
+        verify(outboxRepository, never()).delete(3L);
+    }
+
+    @Test
+    @DisplayName("Should double the backoff per attempt up to the cap")
+    void shouldCapBackoff() {
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(relay.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private OutboxRelay relay(int publishConcurrency) {
+        return new OutboxRelay(outboxRepository, userServiceClient, jsonMapper, clock, 100, publishConcurrency,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(5), MAX_ATTEMPTS);
+    }
+
+    private UserProfileCreatedEvent anEvent() {
+        return new UserProfileCreatedEvent(UUID.randomUUID(), "user@example.com", "John", "Doe", Language.EN);
+    }
+
+    private OutboxMessage message(long id, UserProfileCreatedEvent event, int attempts) {
+        return new OutboxMessage(id, event.userId(), UserProfileCreatedEvent.TYPE,
+                jsonMapper.writeValueAsString(event), attempts);
+    }
+}
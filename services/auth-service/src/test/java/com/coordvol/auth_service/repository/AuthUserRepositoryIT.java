@@ -1,13 +1,23 @@
 package com.coordvol.auth_service.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.r2dbc.test.autoconfigure.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -17,7 +27,16 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import com.coordvol.auth_service.domain.entity.AuthUser;
 import com.coordvol.auth_service.domain.enums.Role;
 import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.testutil.RepositoryTestConfiguration;
 
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 
@@ -28,6 +47,7 @@ import reactor.test.StepVerifier;
  * Tests actual database operations and queries.
  */
 @DataR2dbcTest
+@Import(RepositoryTestConfiguration.class)
 @Testcontainers
 @DisplayName("AuthUserRepository Integration Tests")
 public class AuthUserRepositoryIT {
@@ -49,9 +69,14 @@ public class AuthUserRepositoryIT {
         registry.add("spring.flyway.password", postgres::getPassword);
     }
     
+    private static final Instant LOCKOUT_NOW = Instant.parse("2026-03-02T07:30:00Z");
+
     @Autowired
     private AuthUserRepository repository;
 
+    @Autowired
+    private R2dbcEntityTemplate template;
+
     @AfterEach
     void cleanup() {
         // Clean up test data after each test
@@ -90,6 +115,23 @@ public class AuthUserRepositoryIT {
                 .verifyComplete();
     }
     
+    @Test
+    @DisplayName("Should find user by email regardless of case")
+    void shouldFindUserByEmailIgnoringCase() {
+        // Arrange
+        AuthUser user = createTestUser("mixedcase@example.com", Role.VOLUNTEER);
+        repository.save(user).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.findByEmail("MixedCase@Example.com"))
+                .assertNext(foundUser -> assertThat(foundUser.getEmail()).isEqualTo("mixedcase@example.com"))
+                .verifyComplete();
+
+        StepVerifier.create(repository.existsByEmail("MIXEDCASE@EXAMPLE.COM"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should return empty when user not found by email")
     void shouldReturnEmptyWhenNotFoundByEmail() {
@@ -253,6 +295,305 @@ public class AuthUserRepositoryIT {
                 .verifyComplete();
     }
     
+    @Test
+    @DisplayName("Should lock only from the threshold-th consecutive failure")
+    void shouldLockFromThreshold() {
+        // Arrange
+        UUID id = repository.save(createTestUser("lockout@example.com", Role.VOLUNTEER)).block().getId();
+
+        // Act
+        recordFailures(id, 2);
+
+        // Assert
+        StepVerifier.create(repository.findCredentialsByEmail("lockout@example.com"))
+                .assertNext(credentials -> {
+                    assertThat(credentials.failedLoginAttempts()).isEqualTo(2);
+                    assertThat(credentials.lockedUntil()).isNull();
+                })
+                .verifyComplete();
+
+        recordFailures(id, 1);
+        StepVerifier.create(repository.findCredentialsByEmail("lockout@example.com"))
+                .assertNext(credentials -> {
+                    assertThat(credentials.failedLoginAttempts()).isEqualTo(3);
+                    assertThat(credentials.lockedUntil()).isEqualTo(LOCKOUT_NOW.plusSeconds(60));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should double the lockout with every further failure up to the cap")
+    void shouldDoubleLockoutUpToCap() {
+        // Arrange
+        UUID id = repository.save(createTestUser("doubling@example.com", Role.VOLUNTEER)).block().getId();
+
+        // Act
+        recordFailures(id, 5);
+
+        // Assert
+        StepVerifier.create(repository.findCredentialsByEmail("doubling@example.com"))
+                .assertNext(credentials -> assertThat(credentials.lockedUntil())
+                        .isEqualTo(LOCKOUT_NOW.plusSeconds(240)))
+                .verifyComplete();
+
+        recordFailures(id, 40);
+        StepVerifier.create(repository.findCredentialsByEmail("doubling@example.com"))
+                .assertNext(credentials -> {
+                    assertThat(credentials.failedLoginAttempts()).isEqualTo(45);
+                    assertThat(credentials.lockedUntil()).isEqualTo(LOCKOUT_NOW.plusSeconds(3600));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should clear failures and lockout on reset, and only touch users that had failures")
+    void shouldResetFailedLogins() {
+        // Arrange
+        UUID id = repository.save(createTestUser("reset@example.com", Role.VOLUNTEER)).block().getId();
+        recordFailures(id, 4);
+
+        // Act & Assert
+        StepVerifier.create(repository.resetFailedLogins(id))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(repository.resetFailedLogins(id))
+                .expectNext(0)
+                .verifyComplete();
+        StepVerifier.create(repository.findCredentialsByEmail("reset@example.com"))
+                .assertNext(credentials -> {
+                    assertThat(credentials.failedLoginAttempts()).isZero();
+                    assertThat(credentials.lockedUntil()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not let a rehash overwrite a password changed in the meantime")
+    void shouldNotOverwriteConcurrentPasswordChange() {
+        // Arrange
+        AuthUser user = repository.save(createTestUser("rehash@example.com", Role.VOLUNTEER)).block();
+        String loginHash = user.getPasswordHash();
+        repository.changePassword(user.getId(), loginHash, "$2a$10$changedByUser", LocalDateTime.now()).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.updatePasswordHash(user.getId(), loginHash, "{bcrypt}$2a$12$rehashed"))
+                .expectNext(0)
+                .verifyComplete();
+        StepVerifier.create(repository.findById(user.getId()))
+                .assertNext(found -> assertThat(found.getPasswordHash()).isEqualTo("$2a$10$changedByUser"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should bump the token epoch on a password change and notify listeners")
+    void shouldNotifyTokenEpochOnPasswordChange() {
+        // Arrange
+        AuthUser user = repository.save(createTestUser("change@example.com", Role.VOLUNTEER)).block();
+
+        // Act: listen first, as TokenEpochServiceImpl does, then change the password
+        Mono<String> notification = Mono.usingWhen(listenerConnection(),
+                connection -> Flux.merge(
+                        connection.getNotifications().map(Notification::getParameter),
+                        connection.createStatement("LISTEN auth_token_epoch").execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .then(repository.changePassword(user.getId(), user.getPasswordHash(),
+                                        "$2a$10$changedByUser", LocalDateTime.now()))
+                                .then(Mono.<String>empty()))
+                        .next(),
+                PostgresqlConnection::close);
+
+        // Assert
+        StepVerifier.create(notification.timeout(Duration.ofSeconds(10)))
+                .expectNext(user.getId() + ":1")
+                .verifyComplete();
+        StepVerifier.create(repository.findTokenEpochById(user.getId()))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not change a password whose hash changed since it was verified")
+    void shouldNotChangePasswordAfterConcurrentChange() {
+        // Arrange
+        AuthUser user = repository.save(createTestUser("change-race@example.com", Role.VOLUNTEER)).block();
+        String verifiedHash = user.getPasswordHash();
+        repository.changePassword(user.getId(), verifiedHash, "$2a$10$firstChange", LocalDateTime.now()).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.changePassword(user.getId(), verifiedHash, "$2a$10$secondChange",
+                        LocalDateTime.now()))
+                .expectNext(0)
+                .verifyComplete();
+        StepVerifier.create(repository.findById(user.getId()))
+                .assertNext(found -> {
+                    assertThat(found.getPasswordHash()).isEqualTo("$2a$10$firstChange");
+                    assertThat(found.getTokenEpoch()).isEqualTo(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should rehash when the stored hash is still the one login verified")
+    void shouldRehashUnchangedPassword() {
+        // Arrange
+        AuthUser user = repository.save(createTestUser("rehash-ok@example.com", Role.VOLUNTEER)).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.updatePasswordHash(user.getId(), user.getPasswordHash(), "{bcrypt}$2a$12$rehashed"))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(repository.findById(user.getId()))
+                .assertNext(found -> assertThat(found.getPasswordHash()).isEqualTo("{bcrypt}$2a$12$rehashed"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should store exactly one of two concurrent sign-ups for the same email")
+    void shouldInsertOnlyOneConcurrentDuplicate() {
+        // Arrange
+        AuthUser first = createTestUser("race@example.com", Role.VOLUNTEER);
+        AuthUser second = createTestUser("Race@Example.com", Role.COORDINATOR);
+
+        // Act
+        List<AuthUser> stored = Flux.merge(
+                        repository.insertIfEmailAbsent(first).subscribeOn(Schedulers.parallel()),
+                        repository.insertIfEmailAbsent(second).subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        // Assert
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).getId()).isNotNull();
+        assertThat(stored.get(0).getCreatedBy()).isNotNull();
+        StepVerifier.create(repository.count())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return empty instead of an error when the email is taken")
+    void shouldReturnEmptyForTakenEmail() {
+        // Arrange
+        repository.insertIfEmailAbsent(createTestUser("taken@example.com", Role.VOLUNTEER)).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.insertIfEmailAbsent(createTestUser("TAKEN@example.com", Role.VOLUNTEER)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should change status by ids in chunks, skipping users already in that status")
+    void shouldUpdateStatusByIdsInChunks() {
+        // Arrange
+        UUID adminId = UUID.randomUUID();
+        List<UUID> ids = Flux.range(1, 5)
+                .concatMap(i -> repository.save(createTestUser("ids" + i + "@example.com", Role.VOLUNTEER)))
+                .map(AuthUser::getId)
+                .collectList()
+                .block();
+        AuthUser alreadyInactive = createTestUser("ids-inactive@example.com", Role.VOLUNTEER);
+        alreadyInactive.setStatus(UserStatus.INACTIVE);
+        UUID inactiveId = repository.save(alreadyInactive).block().getId();
+        List<UUID> requested = new ArrayList<>(ids);
+        requested.add(inactiveId);
+
+        // Act & Assert: 6 ids in chunks of 2, one of them unchanged
+        StepVerifier.create(repository.updateStatusByIds(requested, UserStatus.INACTIVE, 2)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                new UsernamePasswordAuthenticationToken(adminId, null, List.of()))))
+                .expectNext(5L)
+                .verifyComplete();
+
+        StepVerifier.create(repository.findAllById(ids))
+                .thenConsumeWhile(user -> {
+                    assertThat(user.getStatus()).isEqualTo(UserStatus.INACTIVE);
+                    assertThat(user.getTokenEpoch()).isEqualTo(1);
+                    assertThat(user.getUpdatedBy()).isEqualTo(adminId.toString());
+                    assertThat(user.getUpdatedAt()).isAfterOrEqualTo(user.getCreatedAt());
+                    return true;
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.findById(inactiveId))
+                .assertNext(user -> {
+                    assertThat(user.getTokenEpoch()).isZero();
+                    assertThat(user.getUpdatedBy()).isNotEqualTo(adminId.toString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should change status by filter in chunks until no match is left, never touching the excluded user")
+    void shouldUpdateStatusByFilterInChunks() {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            repository.save(createTestUser("filter" + i + "@example.com", Role.VOLUNTEER)).block();
+        }
+        UUID coordinatorId = repository.save(createTestUser("filter-coordinator@example.com", Role.COORDINATOR))
+                .block().getId();
+        UUID excludedId = repository.save(createTestUser("filter-excluded@example.com", Role.VOLUNTEER))
+                .block().getId();
+
+        // Act & Assert: chunks of 2, 2 and 1
+        StepVerifier.create(repository.updateStatusByFilter(Role.VOLUNTEER, null, excludedId, UserStatus.INACTIVE, 2))
+                .expectNext(5L)
+                .verifyComplete();
+
+        StepVerifier.create(repository.findAllById(List.of(coordinatorId, excludedId)))
+                .thenConsumeWhile(user -> {
+                    assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+                    assertThat(user.getTokenEpoch()).isZero();
+                    return true;
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.updateStatusByFilter(Role.VOLUNTEER, null, excludedId, UserStatus.INACTIVE, 2))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should filter by creation time")
+    void shouldUpdateStatusCreatedBefore() {
+        // Arrange
+        AuthUser old = repository.save(createTestUser("old@example.com", Role.VOLUNTEER)).block();
+        LocalDateTime cutoff = old.getCreatedAt().plusNanos(1000);
+        AuthUser recent = repository.save(createTestUser("recent@example.com", Role.VOLUNTEER)).block();
+        template.getDatabaseClient()
+                .sql("UPDATE auth_users SET created_at = :createdAt WHERE id = :id")
+                .bind("createdAt", cutoff.plusDays(1))
+                .bind("id", recent.getId())
+                .fetch().rowsUpdated().block();
+
+        // Act & Assert
+        StepVerifier.create(repository.updateStatusByFilter(null, cutoff, null, UserStatus.DELETED, 100))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(repository.findById(recent.getId()))
+                .assertNext(user -> assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should count only active admins")
+    void shouldCountActiveAdmins() {
+        // Arrange
+        repository.save(createTestUser("admin1@example.com", Role.ADMIN)).block();
+        AuthUser inactiveAdmin = createTestUser("admin2@example.com", Role.ADMIN);
+        inactiveAdmin.setStatus(UserStatus.INACTIVE);
+        repository.save(inactiveAdmin).block();
+        repository.save(createTestUser("notadmin@example.com", Role.COORDINATOR)).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.countActiveAdmins())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    private void recordFailures(UUID id, int failures) {
+        for (int i = 0; i < failures; i++) {
+            repository.recordFailedLogin(id, LOCKOUT_NOW, 3, 60, 3600).block();
+        }
+    }
+
     // Helper method
     private AuthUser createTestUser(String email, Role role) {
         return AuthUser.builder()
@@ -262,4 +603,18 @@ public class AuthUserRepositoryIT {
                 .status(UserStatus.ACTIVE)
                 .build();
     }
+
+    /**
+     * A plain driver connection; LISTEN needs one the pool will not recycle.
+     */
+    private static Mono<PostgresqlConnection> listenerConnection() {
+        return Mono.from(ConnectionFactories.get(ConnectionFactoryOptions.parse(
+                        "r2dbc:postgresql://" + postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/"
+                                + postgres.getDatabaseName()).mutate()
+                        .option(ConnectionFactoryOptions.USER, postgres.getUsername())
+                        .option(ConnectionFactoryOptions.PASSWORD, postgres.getPassword())
+                        .build())
+                .create())
+                .cast(PostgresqlConnection.class);
+    }
 }
@@ -0,0 +1,136 @@
+package com.coordvol.auth_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.r2dbc.test.autoconfigure.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.testutil.RepositoryTestConfiguration;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Integration benchmark for the login credentials projection.
+ *
+ * Compares findByEmail (full AuthUser with audit columns) against
+ * findCredentialsByEmail on a real PostgreSQL, logging wall time and bytes
+ * allocated across all JVM threads per lookup.
+ */
+@Slf4j
+@DataR2dbcTest
+@Import(RepositoryTestConfiguration.class)
+@Testcontainers
+@DisplayName("Login Credentials Query Benchmark")
+public class LoginCredentialsQueryBenchmarkIT {
+
+    private static final int USERS = 500;
+    private static final int WARMUP_LOOKUPS = 2_000;
+    private static final int MEASURED_LOOKUPS = 10_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () ->
+                "r2dbc:postgresql://" + postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/" + postgres.getDatabaseName());
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
+        registry.add("spring.flyway.url", postgres::getJdbcUrl);
+        registry.add("spring.flyway.user", postgres::getUsername);
+        registry.add("spring.flyway.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private AuthUserRepository repository;
+
+    @BeforeEach
+    void seed() {
+        repository.deleteAll()
+                .thenMany(Flux.range(0, USERS).map(i -> AuthUser.builder()
+                        .email(email(i))
+                        .passwordHash("$2a$10$testHash")
+                        .role(Role.VOLUNTEER)
+                        .status(UserStatus.ACTIVE)
+                        .build()))
+                .concatMap(repository::save)
+                .blockLast();
+    }
+
+    @Test
+    @DisplayName("Projection returns the login columns with less decoding than the full entity")
+    void compareFullEntityAndProjection() {
+        // Sanity check: both paths agree on the fields login needs
+        StepVerifier.create(Mono.zip(repository.findByEmail(email(0)), repository.findCredentialsByEmail(email(0))))
+                .assertNext(pair -> {
+                    assertThat(pair.getT2().id()).isEqualTo(pair.getT1().getId());
+                    assertThat(pair.getT2().passwordHash()).isEqualTo(pair.getT1().getPasswordHash());
+                    assertThat(pair.getT2().role()).isEqualTo(pair.getT1().getRole());
+                    assertThat(pair.getT2().status()).isEqualTo(pair.getT1().getStatus());
+                })
+                .verifyComplete();
+
+        Result full = measure("findByEmail", repository::findByEmail);
+        Result projection = measure("findCredentialsByEmail", repository::findCredentialsByEmail);
+
+        log.info("{}: {} us/op, {} B/op", full.name, String.format("%.1f", full.microsPerOp), full.bytesPerOp);
+        log.info("{}: {} us/op, {} B/op", projection.name, String.format("%.1f", projection.microsPerOp),
+                projection.bytesPerOp);
+        log.info("Allocation saved per lookup: {} B", full.bytesPerOp - projection.bytesPerOp);
+    }
+
+    private Result measure(String name, Function<String, Mono<?>> lookup) {
+        run(lookup, WARMUP_LOOKUPS);
+        long allocatedBefore = totalAllocatedBytes();
+        long start = System.nanoTime();
+        run(lookup, MEASURED_LOOKUPS);
+        long elapsed = System.nanoTime() - start;
+        long allocated = totalAllocatedBytes() - allocatedBefore;
+        return new Result(name, elapsed / 1_000.0 / MEASURED_LOOKUPS, allocated / MEASURED_LOOKUPS);
+    }
+
+    private void run(Function<String, Mono<?>> lookup, int lookups) {
+        Flux.range(0, lookups)
+                .concatMap(i -> lookup.apply(email(i % USERS)))
+                .blockLast();
+    }
+
+    private static long totalAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    private static String email(int i) {
+        return "bench-" + i + "@example.com";
+    }
+
+    private record Result(String name, double microsPerOp, long bytesPerOp) {
+    }
+}
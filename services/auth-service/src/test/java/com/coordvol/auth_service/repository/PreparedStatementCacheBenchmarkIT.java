@@ -0,0 +1,157 @@
+package com.coordvol.auth_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.coordvol.auth_service.config.SecurityAuditorAware;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Integration benchmark for the driver settings in R2dbcConfig.
+ *
+ * Runs findByEmail, existsByEmail and findById through AuthUserRepository, so
+ * the SQL is the one Spring Data generates, on a real PostgreSQL over a pool
+ * of one connection. The driver defaults (unbounded statement cache, text
+ * results) are compared with the configured bounded cache and binary results,
+ * and the round-trip latency of each is logged.
+ */
+@Slf4j
+@Testcontainers
+@DisplayName("Prepared Statement Cache Benchmark")
+public class PreparedStatementCacheBenchmarkIT {
+
+    private static final int USERS = 500;
+    private static final int WARMUP_QUERIES = 2_000;
+    private static final int MEASURED_QUERIES = 10_000;
+
+    // r2dbc-postgresql default: every statement cached, without bound
+    private static final int DRIVER_DEFAULT_CACHE_SIZE = -1;
+    private static final int CONFIGURED_CACHE_SIZE = 256;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static final List<UUID> userIds = new ArrayList<>();
+
+    @BeforeAll
+    static void seed() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        Mono.usingWhen(connectionFactory(DRIVER_DEFAULT_CACHE_SIZE, false).create(),
+                connection -> Flux.range(0, USERS)
+                        .concatMap(i -> Flux.from(connection.createStatement("""
+                                        INSERT INTO auth_users (email, password_hash, role, status)
+                                        VALUES ($1, $2, 'VOLUNTEER', 'ACTIVE') RETURNING id
+                                        """)
+                                .bind("$1", email(i))
+                                .bind("$2", "$2a$10$testHash")
+                                .execute())
+                                .flatMap(result -> result.map((row, metadata) -> row.get("id", UUID.class))))
+                        .doOnNext(userIds::add)
+                        .then(),
+                Connection::close)
+                .block();
+        assertThat(userIds).hasSize(USERS);
+    }
+
+    @Test
+    @DisplayName("Bounded cache with binary results against the driver defaults on the hot lookups")
+    void compareStatementSettings() {
+        log.info(String.format("%-16s %16s %16s %10s", "query", "default/text", "bounded/binary", "change"));
+        report("findByEmail", (repository, i) -> repository.findByEmail(email(i % USERS)));
+        report("existsByEmail", (repository, i) -> repository.existsByEmail(email(i % USERS)));
+        report("findById", (repository, i) -> repository.findById(userIds.get(i % USERS)));
+    }
+
+    private void report(String name, BiFunction<AuthUserRepository, Integer, Mono<?>> query) {
+        double before = measure(DRIVER_DEFAULT_CACHE_SIZE, false, query);
+        double after = measure(CONFIGURED_CACHE_SIZE, true, query);
+        log.info(String.format("%-16s %13.1f us %13.1f us %9.1f%%", name, before, after, (after - before) / before * 100));
+    }
+
+    /**
+     * Mean microseconds per query, run back to back on one pooled connection so
+     * only the round-trip and the statement handling differ.
+     */
+    private double measure(int statementCacheSize, boolean binary,
+            BiFunction<AuthUserRepository, Integer, Mono<?>> query) {
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(connectionFactory(statementCacheSize, binary))
+                .initialSize(1)
+                .maxSize(1)
+                .build());
+        try {
+            AuthUserRepository repository = repository(pool);
+            // Every query must find its row, or the timing would measure empty results
+            assertThat(query.apply(repository, 0).block()).isNotNull();
+            run(repository, query, WARMUP_QUERIES);
+            long start = System.nanoTime();
+            run(repository, query, MEASURED_QUERIES);
+            return (System.nanoTime() - start) / 1_000.0 / MEASURED_QUERIES;
+        } finally {
+            pool.dispose();
+        }
+    }
+
+    private void run(AuthUserRepository repository, BiFunction<AuthUserRepository, Integer, Mono<?>> query,
+            int queries) {
+        Flux.range(0, queries)
+                .concatMap(i -> query.apply(repository, i))
+                .blockLast();
+    }
+
+    private static AuthUserRepository repository(ConnectionFactory connectionFactory) {
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        return new R2dbcRepositoryFactory(template).getRepository(AuthUserRepository.class,
+                RepositoryFragments.just(new AuthUserRepositoryCustomImpl(template, new SecurityAuditorAware(),
+                        Clock.systemDefaultZone())));
+    }
+
+    private static ConnectionFactory connectionFactory(int statementCacheSize, boolean binary) {
+        return ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, postgres.getHost())
+                .option(ConnectionFactoryOptions.PORT, postgres.getFirstMappedPort())
+                .option(ConnectionFactoryOptions.DATABASE, postgres.getDatabaseName())
+                .option(ConnectionFactoryOptions.USER, postgres.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, postgres.getPassword())
+                .option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES, statementCacheSize)
+                .option(PostgresqlConnectionFactoryProvider.FORCE_BINARY, binary)
+                .build());
+    }
+
+    private static String email(int i) {
+        return "bench-" + i + "@example.com";
+    }
+}
@@ -0,0 +1,219 @@
+package com.coordvol.auth_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.coordvol.auth_service.config.ReplicaRoutingConnectionFactory;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.service.JwtService;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.Mono;
+
+/**
+ * Integration tests for read replica routing.
+ *
+ * The primary and the replica are two independent PostgreSQL containers, so
+ * the same user is seeded with a different email in each and the email
+ * returned by /auth/me shows which database served the read.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@Testcontainers
+@DisplayName("Replica Routing Integration Tests")
+public class ReplicaRoutingIT {
+
+    private static final Duration PROBE_INTERVAL = Duration.ofMillis(200);
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("replicadb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> r2dbcUrl(primary));
+        registry.add("spring.r2dbc.username", primary::getUsername);
+        registry.add("spring.r2dbc.password", primary::getPassword);
+        registry.add("spring.flyway.url", primary::getJdbcUrl);
+        registry.add("spring.flyway.user", primary::getUsername);
+        registry.add("spring.flyway.password", primary::getPassword);
+        registry.add("auth.db.replica.url", () -> r2dbcUrl(replica));
+        registry.add("auth.db.replica.username", replica::getUsername);
+        registry.add("auth.db.replica.password", replica::getPassword);
+        registry.add("auth.db.replica.max-lag", () -> "1s");
+        registry.add("auth.db.replica.probe-interval", PROBE_INTERVAL::toString);
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        // The application migrates the primary; the replica would get the schema through replication
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Test
+    @DisplayName("Should serve /auth/me from the replica")
+    void shouldServeCurrentUserFromReplica() {
+        // Arrange
+        UUID userId = seedUser("me");
+        awaitReplica(true);
+
+        // Act & Assert
+        currentUser(jwtService.generateToken(userId, Role.VOLUNTEER))
+                .jsonPath("$.email").isEqualTo("me@replica.example.com");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary right after the user wrote")
+    void shouldReadYourWritesFromPrimary() {
+        // Arrange
+        UUID userId = seedUser("writer");
+        awaitReplica(true);
+
+        // Act
+        webTestClient.post()
+                .uri("/auth/logout")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(userId, Role.VOLUNTEER))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // Assert
+        currentUser(jwtService.generateToken(userId, Role.VOLUNTEER))
+                .jsonPath("$.email").isEqualTo("writer@primary.example.com");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the row is not on the replica yet")
+    void shouldFallBackToPrimaryOnReplicaMiss() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        insertUser(primary, userId, "new@primary.example.com");
+        awaitReplica(true);
+
+        // Act & Assert
+        currentUser(jwtService.generateToken(userId, Role.VOLUNTEER))
+                .jsonPath("$.email").isEqualTo("new@primary.example.com");
+    }
+
+    @Test
+    @DisplayName("Should send replica reads to the primary while the replica does not answer")
+    void shouldFallBackToPrimaryWhileReplicaIsUnreachable() {
+        // Arrange
+        UUID userId = seedUser("paused");
+        awaitReplica(true);
+        replica.getDockerClient().pauseContainerCmd(replica.getContainerId()).exec();
+        try {
+            awaitReplica(false);
+
+            // Act & Assert
+            currentUser(jwtService.generateToken(userId, Role.VOLUNTEER))
+                    .jsonPath("$.email").isEqualTo("paused@primary.example.com");
+        } finally {
+            replica.getDockerClient().unpauseContainerCmd(replica.getContainerId()).exec();
+        }
+        awaitReplica(true);
+    }
+
+    private WebTestClient.BodyContentSpec currentUser(String token) {
+        return webTestClient.get()
+                .uri("/auth/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody();
+    }
+
+    /**
+     * Seeds one user under the same id in both databases, with an email that
+     * names the database.
+     */
+    private static UUID seedUser(String name) {
+        UUID userId = UUID.randomUUID();
+        insertUser(primary, userId, name + "@primary.example.com");
+        insertUser(replica, userId, name + "@replica.example.com");
+        return userId;
+    }
+
+    private static void insertUser(PostgreSQLContainer<?> database, UUID userId, String email) {
+        ConnectionFactory direct = ConnectionFactories.get(ConnectionFactoryOptions.parse(r2dbcUrl(database)).mutate()
+                .option(ConnectionFactoryOptions.USER, database.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, database.getPassword())
+                .build());
+        Mono.usingWhen(direct.create(),
+                connection -> Mono.from(connection.createStatement("""
+                                INSERT INTO auth_users (id, email, password_hash, role, status)
+                                VALUES ($1, $2, $3, 'VOLUNTEER', 'ACTIVE')
+                                """)
+                        .bind("$1", userId)
+                        .bind("$2", email)
+                        .bind("$3", "$2a$10$testHash")
+                        .execute())
+                        .flatMap(result -> Mono.from(result.getRowsUpdated())),
+                Connection::close)
+                .block();
+    }
+
+    private void awaitReplica(boolean fresh) {
+        ReplicaRoutingConnectionFactory routing = (ReplicaRoutingConnectionFactory) connectionFactory;
+        await(() -> routing.isReplicaFresh() == fresh);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition within %s", AWAIT_TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(PROBE_INTERVAL.toMillis() / 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static String r2dbcUrl(PostgreSQLContainer<?> database) {
+        return "r2dbc:postgresql://" + database.getHost() + ":" + database.getFirstMappedPort() + "/"
+                + database.getDatabaseName();
+    }
+}
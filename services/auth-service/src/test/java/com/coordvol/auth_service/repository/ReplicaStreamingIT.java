@@ -0,0 +1,162 @@
+package com.coordvol.auth_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.coordvol.auth_service.config.ReplicaRoutingConnectionFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Integration tests for the replica lag probe against a real streaming
+ * standby, cloned from the primary with pg_basebackup.
+ *
+ * Unlike ReplicaRoutingIT, whose two databases are independent, this checks
+ * what the probe reports when replication itself stops.
+ */
+@Testcontainers
+@DisplayName("Replica Streaming Integration Tests")
+public class ReplicaStreamingIT {
+
+    private static final Duration PROBE_INTERVAL = Duration.ofMillis(200);
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String USERNAME = "test";
+    private static final String PASSWORD = "test";
+
+    private static final Network network = Network.newNetwork();
+
+    // The image only accepts replication connections from localhost
+    private static final String ALLOW_REPLICATION = """
+            echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+            """;
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername(USERNAME)
+            .withPassword(PASSWORD)
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withCopyToContainer(Transferable.of(ALLOW_REPLICATION), "/docker-entrypoint-initdb.d/allow-replication.sh");
+
+    // -R writes primary_conninfo and standby.signal, so the clone starts streaming
+    @Container
+    static GenericContainer<?> replica = new GenericContainer<>("postgres:15-alpine")
+            .dependsOn(primary)
+            .withNetwork(network)
+            .withEnv("PGPASSWORD", PASSWORD)
+            .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c",
+                    "pg_basebackup -h primary -U " + USERNAME + " -D /tmp/standby -R -X stream"
+                            + " && exec postgres -D /tmp/standby")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private ReplicaRoutingConnectionFactory routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingConnectionFactory(
+                connectionFactory(primary.getHost(), primary.getFirstMappedPort(), primary.getDatabaseName()),
+                connectionFactory(replica.getHost(), replica.getFirstMappedPort(), primary.getDatabaseName()),
+                Duration.ofSeconds(5), Duration.ofSeconds(40), PROBE_INTERVAL, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.dispose();
+    }
+
+    @Test
+    @DisplayName("Should allow replica reads while the standby is streaming")
+    void shouldServeStreamingStandby() {
+        // Act & Assert
+        await(routing::isReplicaFresh);
+        assertThat(queryReplica("SELECT status FROM pg_stat_wal_receiver")).isEqualTo("streaming");
+    }
+
+    @Test
+    @DisplayName("Should count the lag as unknown once the standby stops streaming")
+    void shouldNotTrustDisconnectedStandby() {
+        // Arrange
+        await(routing::isReplicaFresh);
+        String conninfo = queryReplica("SHOW primary_conninfo");
+
+        // Act: without a conninfo the WAL receiver stops, yet everything received stays replayed
+        setPrimaryConninfo("");
+        try {
+            // Assert
+            await(() -> !routing.isReplicaFresh());
+            assertThat(queryReplica("SELECT count(*)::text FROM pg_stat_wal_receiver")).isEqualTo("0");
+        } finally {
+            setPrimaryConninfo(conninfo);
+        }
+        await(routing::isReplicaFresh);
+    }
+
+    private static void setPrimaryConninfo(String conninfo) {
+        // ALTER SYSTEM takes no bind parameters
+        queryReplica("ALTER SYSTEM SET primary_conninfo = '" + conninfo.replace("'", "''") + "'");
+        queryReplica("SELECT pg_reload_conf()::text");
+    }
+
+    /**
+     * Runs one statement on the standby and returns the first column of its
+     * first row, or null when it returns none.
+     */
+    private static String queryReplica(String sql) {
+        ConnectionFactory direct = connectionFactory(replica.getHost(), replica.getFirstMappedPort(),
+                primary.getDatabaseName());
+        return Mono.usingWhen(direct.create(),
+                connection -> Flux.from(connection.createStatement(sql).execute())
+                        .concatMap(result -> result.map((row, metadata) -> String.valueOf(row.get(0))))
+                        .next(),
+                Connection::close)
+                .block();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition within %s", AWAIT_TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(PROBE_INTERVAL.toMillis() / 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static ConnectionFactory connectionFactory(String host, int port, String database) {
+        return ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, host)
+                .option(ConnectionFactoryOptions.PORT, port)
+                .option(ConnectionFactoryOptions.DATABASE, database)
+                .option(ConnectionFactoryOptions.USER, USERNAME)
+                .option(ConnectionFactoryOptions.PASSWORD, PASSWORD)
+                .build());
+    }
+}
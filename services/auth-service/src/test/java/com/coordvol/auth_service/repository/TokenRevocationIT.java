@@ -0,0 +1,129 @@
+package com.coordvol.auth_service.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.r2dbc.test.autoconfigure.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.service.TokenClaims;
+import com.coordvol.auth_service.service.impl.TokenRevocationServiceImpl;
+import com.coordvol.auth_service.testutil.RepositoryTestConfiguration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for token revocation across instances whose clocks run in
+ * different time zones, against a database in yet another zone.
+ */
+@DataR2dbcTest
+@Import(RepositoryTestConfiguration.class)
+@Testcontainers
+@DisplayName("Token Revocation Integration Tests")
+public class TokenRevocationIT {
+
+    private static final ZoneId AHEAD = ZoneId.of("Pacific/Kiritimati");
+    private static final ZoneId BEHIND = ZoneId.of("Pacific/Pago_Pago");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("postgres", "-c", "fsync=off", "-c", "timezone=America/Caracas");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () ->
+                "r2dbc:postgresql://" + postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/" + postgres.getDatabaseName());
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
+        registry.add("spring.flyway.url", postgres::getJdbcUrl);
+        registry.add("spring.flyway.user", postgres::getUsername);
+        registry.add("spring.flyway.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @AfterEach
+    void cleanup() {
+        revokedTokenRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("Should sync a revocation made by an instance in another time zone")
+    void shouldSyncRevocationAcrossZones() {
+        // Arrange
+        TokenRevocationServiceImpl revoking = service(AHEAD);
+        TokenRevocationServiceImpl syncing = service(BEHIND);
+        syncing.rebuildFilter().block();
+        TokenClaims claims = claims(Duration.ofMinutes(15));
+
+        // Act
+        revoking.revoke(claims).block();
+        syncing.syncFilter().block();
+
+        // Assert
+        StepVerifier.create(syncing.isRevoked(claims))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the filter with revocations made in another time zone")
+    void shouldRebuildWithRevocationAcrossZones() {
+        // Arrange
+        TokenRevocationServiceImpl revoking = service(BEHIND);
+        TokenRevocationServiceImpl rebuilding = service(AHEAD);
+        TokenClaims claims = claims(Duration.ofMinutes(15));
+        revoking.revoke(claims).block();
+
+        // Act
+        rebuilding.rebuildFilter().block();
+
+        // Assert
+        StepVerifier.create(rebuilding.isRevoked(claims))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stop reporting a revoked token once it has expired")
+    void shouldForgetExpiredRevocation() {
+        // Arrange
+        TokenRevocationServiceImpl revoking = service(AHEAD);
+        TokenClaims claims = claims(Duration.ofSeconds(-1));
+        revoking.revoke(claims).block();
+
+        // Act & Assert
+        StepVerifier.create(service(BEHIND).isRevoked(claims))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    private TokenRevocationServiceImpl service(ZoneId zone) {
+        return new TokenRevocationServiceImpl(revokedTokenRepository, new SimpleMeterRegistry(), Clock.system(zone),
+                1000, 0.001);
+    }
+
+    private static TokenClaims claims(Duration expiresIn) {
+        return new TokenClaims(UUID.randomUUID(), UUID.randomUUID(), Role.VOLUNTEER,
+                Date.from(Instant.now().plus(expiresIn)), "coordvol-auth", 0);
+    }
+}
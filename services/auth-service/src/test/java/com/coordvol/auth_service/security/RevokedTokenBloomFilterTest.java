@@ -0,0 +1,65 @@
+package com.coordvol.auth_service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RevokedTokenBloomFilter.
+ */
+@DisplayName("Revoked Token Bloom Filter Test")
+public class RevokedTokenBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added token as absent")
+    void shouldHaveNoFalseNegatives() {
+        // Arrange
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(10_000, 0.001);
+        List<UUID> revoked = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            revoked.add(UUID.randomUUID());
+        }
+
+        // Act
+        revoked.forEach(filter::add);
+
+        // Assert
+        assertThat(revoked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the configured target")
+    void shouldRespectFalsePositiveRate() {
+        // Arrange
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new RevokedTokenBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RevokedTokenBloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
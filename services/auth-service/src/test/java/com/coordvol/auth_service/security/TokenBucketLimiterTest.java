@@ -0,0 +1,98 @@
+package com.coordvol.auth_service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TokenBucketLimiter.
+ */
+@DisplayName("Token Bucket Limiter Test")
+public class TokenBucketLimiterTest {
+
+    private static final long NOW = 1_770_000_000_000L;
+
+    @Test
+    @DisplayName("Should allow a burst of capacity attempts and then report the wait")
+    void shouldLimitBurst() {
+        // Arrange
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1024, 3, Duration.ofSeconds(10));
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("user@example.com", NOW)).isZero();
+        assertThat(limiter.tryAcquire("user@example.com", NOW)).isZero();
+        assertThat(limiter.tryAcquire("user@example.com", NOW)).isZero();
+        assertThat(limiter.tryAcquire("user@example.com", NOW)).isEqualTo(10_000);
+        assertThat(limiter.tryAcquire("user@example.com", NOW + 4_000)).isEqualTo(6_000);
+    }
+
+    @Test
+    @DisplayName("Should regain one attempt per refill period")
+    void shouldRefill() {
+        // Arrange
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1024, 2, Duration.ofSeconds(10));
+        limiter.tryAcquire("10.0.0.1", NOW);
+        limiter.tryAcquire("10.0.0.1", NOW);
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("10.0.0.1", NOW + 10_000)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", NOW + 10_000)).isPositive();
+        // A long pause refills to capacity, never beyond
+        assertThat(limiter.tryAcquire("10.0.0.1", NOW + 3_600_000)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", NOW + 3_600_000)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", NOW + 3_600_000)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep separate budgets per key")
+    void shouldSeparateKeys() {
+        // Arrange
+        TokenBucketLimiter limiter = new TokenBucketLimiter(65536, 1, Duration.ofMinutes(1));
+        limiter.tryAcquire("10.0.0.1", NOW);
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("10.0.0.1", NOW)).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.2", NOW)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never hand out more than capacity under contention")
+    void shouldHoldUnderContention() throws InterruptedException {
+        // Arrange
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1024, 100, Duration.ofHours(1));
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquire("shared", NOW) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,75 @@
+package com.coordvol.auth_service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TokenEpochMap.
+ */
+@DisplayName("Token Epoch Map Test")
+public class TokenEpochMapTest {
+
+    @Test
+    @DisplayName("Should return 0 for users never bumped")
+    void shouldDefaultToZero() {
+        // Arrange
+        TokenEpochMap map = new TokenEpochMap(16);
+
+        // Act & Assert
+        assertThat(map.get(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the highest epoch when updates arrive out of order")
+    void shouldKeepHighestEpoch() {
+        // Arrange
+        TokenEpochMap map = new TokenEpochMap(16);
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        map.put(userId, 3);
+        map.put(userId, 2);
+
+        // Assert
+        assertThat(map.get(userId)).isEqualTo(3);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should grow beyond its initial capacity")
+    void shouldResize() {
+        // Arrange
+        TokenEpochMap map = new TokenEpochMap(1);
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            users.add(UUID.randomUUID());
+        }
+
+        // Act
+        for (int i = 0; i < users.size(); i++) {
+            map.put(users.get(i), i + 1);
+        }
+
+        // Assert
+        assertThat(map.size()).isEqualTo(5_000);
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(map.get(users.get(i))).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject the nil UUID used to mark empty slots")
+    void shouldRejectNilUuid() {
+        TokenEpochMap map = new TokenEpochMap(16);
+
+        assertThatThrownBy(() -> map.put(new UUID(0, 0), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
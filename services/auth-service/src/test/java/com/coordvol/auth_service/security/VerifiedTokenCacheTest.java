@@ -0,0 +1,86 @@
+package com.coordvol.auth_service.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.service.TokenClaims;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for VerifiedTokenCache.
+ */
+@DisplayName("Verified Token Cache Test")
+public class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(10000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should return cached claims and count hits and misses")
+    void shouldReturnCachedClaims() {
+        // Arrange
+        Date now = new Date();
+        TokenClaims claims = claimsExpiringAt(new Date(now.getTime() + 60000));
+
+        // Act
+        TokenClaims beforePut = cache.get("token-a", now);
+        cache.put("token-a", claims);
+        TokenClaims afterPut = cache.get("token-a", now);
+
+        // Assert
+        assertThat(beforePut).isNull();
+        assertThat(afterPut).isEqualTo(claims);
+        assertThat(meterRegistry.get("auth.jwt.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop entries once the token has expired")
+    void shouldDropExpiredEntries() {
+        // Arrange
+        Date now = new Date();
+        cache.put("token-b", claimsExpiringAt(new Date(now.getTime() + 1000)));
+
+        // Act
+        TokenClaims result = cache.get("token-b", new Date(now.getTime() + 2000));
+
+        // Assert
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.get("auth.jwt.cache.evictions").tag("cause", "expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stay bounded by evicting least recently used entries")
+    void shouldEvictWhenFull() {
+        // Arrange
+        VerifiedTokenCache smallCache = new VerifiedTokenCache(16, meterRegistry);
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            smallCache.put("token-" + i, claimsExpiringAt(expiration));
+        }
+
+        // Assert
+        assertThat(smallCache.size()).isLessThanOrEqualTo(16);
+    }
+
+    private TokenClaims claimsExpiringAt(Date expiration) {
+        return new TokenClaims(UUID.randomUUID(), UUID.randomUUID(), Role.VOLUNTEER, expiration, "auth-service-test", 0);
+    }
+}
@@ -2,6 +2,7 @@ package com.coordvol.auth_service.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -9,7 +10,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,20 +25,34 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.coordvol.auth_service.domain.entity.AuthUser;
 import com.coordvol.auth_service.domain.enums.Role;
 import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+import com.coordvol.auth_service.domain.projection.LoginCredentials;
+import com.coordvol.auth_service.dto.ChangePasswordRequestDTO;
+import com.coordvol.auth_service.dto.LoginRequestDTO;
+import com.coordvol.auth_service.dto.RegisterRequestDTO;
+import com.coordvol.auth_service.exception.BadRequestException;
+import com.coordvol.auth_service.exception.ConflictException;
+import com.coordvol.auth_service.exception.ServiceUnavailableException;
+import com.coordvol.auth_service.exception.TooManyRequestsException;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.outbox.OutboxRepository;
 import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.impl.AuthServiceImpl;
+import com.coordvol.auth_service.testutil.TestDataBuilder;
 
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Unit tests for AuthService.
- * 
+ *
  * These tests verify business logic in isolation using mocks.
  * No Spring context, no database - fast and focused.
  */
@@ -40,23 +60,43 @@ import reactor.test.StepVerifier;
 @DisplayName("AuthService Unit Tests")
 public class AuthServiceTest {
 
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-02T07:30:00Z"), ZoneOffset.UTC);
+
     @Mock
     private AuthUserRepository authUserRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtService jwtService;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private LastLoginService lastLoginService;
+
+    @Mock
+    private LoginThrottleService loginThrottleService;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
 
     private AuthService authService;
 
     @BeforeEach
     void setUp() {
-        authService = new AuthService(authUserRepository, passwordEncoder, jwtService, userServiceClient);
+        authService = new AuthServiceImpl(authUserRepository, passwordHashingService, jwtService,
+                refreshTokenService, tokenRevocationService, lastLoginService, loginThrottleService,
+                outboxRepository, transactionalOperator, JsonMapper.builder().build(), CLOCK);
     }
 
     @Nested
@@ -64,22 +104,22 @@ public class AuthServiceTest {
     class RegistrationTests {
 
         @Test
-        @DisplayName("Should register new user with valid data")
+        @DisplayName("Should register new user and queue the profile creation with it")
         void shouldRegisterUser_whenValidRequest() {
             // Arrange
-            RegisterRequest request = createValidRegisterRequest();
-            AuthUser savedUser = createAuthUser(request.getEmail(), request.getRole());
-
-            when(authUserRepository.existsByEmail(request.getEmail())).thenReturn(Mono.just(false));
-            when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
-            when(authUserRepository.save(any(AuthUser.class))).thenReturn(Mono.just(savedUser));
-            when(userServiceClient.createUserProfile(any(), anyString(), anyString(), anyString(), any()))
+            RegisterRequestDTO request = TestDataBuilder.aVolunteerRegistration().email(" New@Example.com ").build();
+            AuthUser savedUser = TestDataBuilder.aVolunteer().email("new@example.com").build();
+            savedUser.setCreatedAt(LocalDateTime.now());
+
+            when(passwordHashingService.encode(request.getPassword())).thenReturn(Mono.just("hashedPassword"));
+            when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(authUserRepository.insertIfEmailAbsent(any(AuthUser.class))).thenReturn(Mono.just(savedUser));
+            when(outboxRepository.append(eq(savedUser.getId()), eq(UserProfileCreatedEvent.TYPE), anyString()))
                     .thenReturn(Mono.empty());
 
             // Act & Assert
             StepVerifier.create(authService.register(request))
                     .assertNext(response -> {
-                        assertThat(response).isNotNull();
                         assertThat(response.getUserId()).isEqualTo(savedUser.getId());
                         assertThat(response.getRole()).isEqualTo(Role.VOLUNTEER);
                         assertThat(response.isActive()).isTrue();
@@ -87,24 +127,19 @@ public class AuthServiceTest {
                     })
                     .verifyComplete();
 
-            // Verify interactions
-            verify(authUserRepository).existsByEmail(request.getEmail());
-            verify(passwordEncoder).encode(request.getPassword());
-            verify(authUserRepository).save(any(AuthUser.class));
-            verify(userServiceClient).createUserProfile(
-                    eq(savedUser.getId()),
-                    eq(request.getFirstName()),
-                    eq(request.getLastName()),
-                    eq(request.getEmail()),
-                    eq(request.getLanguage()));
+            verify(authUserRepository).insertIfEmailAbsent(
+                    argThat(user -> user.getEmail().equals("new@example.com")
+                            && user.getPasswordHash().equals("hashedPassword")));
         }
 
         @Test
-        @DisplayName("Should throw ConflictException when email already exists")
+        @DisplayName("Should throw ConflictException when the insert finds the email taken")
         void shouldThrowConflictException_whenEmailExists() {
             // Arrange
-            RegisterRequest request = createValidRegisterRequest();
-            when(authUserRepository.existsByEmail(request.getEmail())).thenReturn(Mono.just(true));
+            RegisterRequestDTO request = TestDataBuilder.aVolunteerRegistration().build();
+            when(passwordHashingService.encode(request.getPassword())).thenReturn(Mono.just("hashedPassword"));
+            when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(authUserRepository.insertIfEmailAbsent(any(AuthUser.class))).thenReturn(Mono.empty());
 
             // Act & Assert
             StepVerifier.create(authService.register(request))
@@ -112,17 +147,14 @@ public class AuthServiceTest {
                             throwable.getMessage().contains("Email already exists"))
                     .verify();
 
-            verify(authUserRepository).existsByEmail(request.getEmail());
-            verify(authUserRepository, never()).save(any());
-            verify(userServiceClient, never()).createUserProfile(any(), any(), any(), any(), any());
+            verify(outboxRepository, never()).append(any(), any(), any());
         }
 
         @Test
         @DisplayName("Should throw BadRequestException when trying to register as ADMIN")
         void shouldThrowBadRequestException_whenAdminRole() {
             // Arrange
-            RegisterRequest request = createValidRegisterRequest();
-            request.setRole(Role.ADMIN);
+            RegisterRequestDTO request = TestDataBuilder.aRegisterRequest().role(Role.ADMIN).build();
 
             // Act & Assert
             StepVerifier.create(authService.register(request))
@@ -130,28 +162,8 @@ public class AuthServiceTest {
                             throwable.getMessage().contains("Invalid role for registration"))
                     .verify();
 
-            verify(authUserRepository, never()).existsByEmail(any());
-            verify(authUserRepository, never()).save(any());
-        }
-
-        @Test
-        @DisplayName("Should register user as COORDINATOR role")
-        void shouldRegisterUser_whenCoordinatorRole() {
-            // Arrange
-            RegisterRequest request = createValidRegisterRequest();
-            request.setRole(Role.COORDINATOR);
-            AuthUser savedUser = createAuthUser(request.getEmail(), Role.COORDINATOR);
-
-            when(authUserRepository.existsByEmail(request.getEmail())).thenReturn(Mono.just(false));
-            when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
-            when(authUserRepository.save(any(AuthUser.class))).thenReturn(Mono.just(savedUser));
-            when(userServiceClient.createUserProfile(any(), any(), any(), any(), any()))
-                    .thenReturn(Mono.empty());
-
-            // Act & Assert
-            StepVerifier.create(authService.register(request))
-                    .assertNext(response -> assertThat(response.getRole()).isEqualTo(Role.COORDINATOR))
-                    .verifyComplete();
+            verify(passwordHashingService, never()).encode(any());
+            verify(authUserRepository, never()).insertIfEmailAbsent(any());
         }
     }
 
@@ -160,283 +172,413 @@ public class AuthServiceTest {
     class LoginTests {
 
         @Test
-        @DisplayName("Should return JWT token when credentials are valid")
-        void shouldReturnToken_whenCredentialsValid() {
+        @DisplayName("Should return tokens when credentials are valid")
+        void shouldReturnTokens_whenCredentialsValid() {
             // Arrange
-            LoginRequest request = createValidLoginRequest();
-            AuthUser user = createAuthUser(request.getEmail(), Role.COORDINATOR);
-
-            when(authUserRepository.findByEmail(request.getEmail())).thenReturn(Mono.just(user));
-            when(passwordEncoder.matches(request.getPassword(), user.getPasswordHash())).thenReturn(true);
-            when(jwtService.generateToken(user.getId(), user.getRole())).thenReturn("jwt-token-123");
-            when(jwtService.getExpirationTime()).thenReturn(86400000L);
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 2);
+
+            givenNotThrottled(request);
+            when(authUserRepository.findCredentialsByEmail(request.getEmail())).thenReturn(Mono.just(credentials));
+            when(loginThrottleService.checkNotLocked(credentials)).thenReturn(Mono.empty());
+            when(passwordHashingService.matches(request.getPassword(), credentials.passwordHash()))
+                    .thenReturn(Mono.just(true));
+            when(passwordHashingService.needsRehash(credentials.passwordHash())).thenReturn(false);
+            when(loginThrottleService.recordSuccess(credentials)).thenReturn(Mono.empty());
+            when(refreshTokenService.issue(credentials.id())).thenReturn(Mono.just("refresh-token"));
+            when(jwtService.generateToken(credentials.id(), Role.COORDINATOR, 3)).thenReturn("jwt-token-123");
 
             // Act & Assert
-            StepVerifier.create(authService.login(request))
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
                     .assertNext(response -> {
-                        assertThat(response.getAccessToken()).isEqualTo("jwt-token-123");
-                        assertThat(response.getTokenType()).isEqualTo("Bearer");
-                        assertThat(response.getExpiresIn()).isEqualTo(86400);
-                        assertThat(response.getRole()).isEqualTo(Role.COORDINATOR);
+                        assertThat(response.getToken()).isEqualTo("jwt-token-123");
+                        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+                        assertThat(response.getType()).isEqualTo("Bearer");
+                        assertThat(response.getUserId()).isEqualTo(credentials.id());
+                        assertThat(response.getRole()).isEqualTo(Role.COORDINATOR.name());
                     })
                     .verifyComplete();
 
-            verify(authUserRepository).findByEmail(request.getEmail());
-            verify(passwordEncoder).matches(request.getPassword(), user.getPasswordHash());
-            verify(jwtService).generateToken(user.getId(), user.getRole());
+            verify(lastLoginService).recordLogin(credentials.id());
+            verify(loginThrottleService).recordSuccess(credentials);
         }
 
         @Test
-        @DisplayName("Should throw UnauthorizedException when user not found")
+        @DisplayName("Should answer an unknown user like a wrong password, after a password check")
         void shouldThrowUnauthorizedException_whenUserNotFound() {
             // Arrange
-            LoginRequest request = createValidLoginRequest();
-            when(authUserRepository.findByEmail(request.getEmail())).thenReturn(Mono.empty());
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            givenNotThrottled(request);
+            when(authUserRepository.findCredentialsByEmail(request.getEmail())).thenReturn(Mono.empty());
+            when(passwordHashingService.matchesNothing(request.getPassword())).thenReturn(Mono.just(false));
 
             // Act & Assert
-            StepVerifier.create(authService.login(request))
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
                     .expectErrorMatches(throwable -> throwable instanceof UnauthorizedException &&
                             throwable.getMessage().contains("Invalid credentials"))
                     .verify();
 
-            verify(passwordEncoder, never()).matches(any(), any());
-            verify(jwtService, never()).generateToken(any(), any());
+            verify(passwordHashingService).matchesNothing(request.getPassword());
+            verify(jwtService, never()).generateToken(any(), any(), anyInt());
         }
 
         @Test
-        @DisplayName("Should throw UnauthorizedException when password is invalid")
-        void shouldThrowUnauthorizedException_whenPasswordInvalid() {
+        @DisplayName("Should count the failure when password is invalid")
+        void shouldRecordFailure_whenPasswordInvalid() {
             // Arrange
-            LoginRequest request = createValidLoginRequest();
-            AuthUser user = createAuthUser(request.getEmail(), Role.VOLUNTEER);
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
 
-            when(authUserRepository.findByEmail(request.getEmail())).thenReturn(Mono.just(user));
-            when(passwordEncoder.matches(request.getPassword(), user.getPasswordHash())).thenReturn(false);
+            givenNotThrottled(request);
+            when(authUserRepository.findCredentialsByEmail(request.getEmail())).thenReturn(Mono.just(credentials));
+            when(loginThrottleService.checkNotLocked(credentials)).thenReturn(Mono.empty());
+            when(passwordHashingService.matches(request.getPassword(), credentials.passwordHash()))
+                    .thenReturn(Mono.just(false));
+            when(loginThrottleService.recordFailure(credentials.id())).thenReturn(Mono.empty());
 
             // Act & Assert
-            StepVerifier.create(authService.login(request))
-                    .expectError(UnauthorizedException.class)
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectErrorMatches(throwable -> throwable instanceof UnauthorizedException &&
+                            throwable.getMessage().contains("Invalid credentials"))
                     .verify();
 
-            verify(jwtService, never()).generateToken(any(), any());
+            verify(loginThrottleService).recordFailure(credentials.id());
+            verify(refreshTokenService, never()).issue(any());
+            verify(lastLoginService, never()).recordLogin(any());
         }
 
         @Test
-        @DisplayName("Should throw UnauthorizedException when user is inactive")
+        @DisplayName("Should answer an inactive user like a wrong password, after a password check")
         void shouldThrowUnauthorizedException_whenUserInactive() {
             // Arrange
-            LoginRequest request = createValidLoginRequest();
-            AuthUser user = createAuthUser(request.getEmail(), Role.VOLUNTEER);
-            user.setStatus(UserStatus.INACTIVE);
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.INACTIVE, 0);
 
-            when(authUserRepository.findByEmail(request.getEmail())).thenReturn(Mono.just(user));
+            givenNotThrottled(request);
+            when(authUserRepository.findCredentialsByEmail(request.getEmail())).thenReturn(Mono.just(credentials));
+            when(passwordHashingService.matchesNothing(request.getPassword())).thenReturn(Mono.just(false));
 
             // Act & Assert
-            StepVerifier.create(authService.login(request))
-                    .expectErrorMatches(throwable -> throwable instanceof UnauthorizedException &&
-                            throwable.getMessage().contains("not active"))
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectErrorSatisfies(throwable -> {
+                        assertThat(throwable).isInstanceOf(UnauthorizedException.class);
+                        assertThat(((UnauthorizedException) throwable).getReason()).isEqualTo("Invalid credentials");
+                    })
+                    .verify();
+
+            verify(passwordHashingService).matchesNothing(request.getPassword());
+            verify(passwordHashingService, never()).matches(any(), any());
+            verify(refreshTokenService, never()).issue(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a throttled attempt before the lookup and the hash")
+        void shouldRejectThrottledAttempt_beforeLookup() {
+            // Arrange
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            when(loginThrottleService.checkAttempt(CLIENT_ADDRESS, request.getEmail()))
+                    .thenReturn(Mono.error(new TooManyRequestsException("Too many login attempts",
+                            Duration.ofSeconds(30))));
+
+            // Act & Assert
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectError(TooManyRequestsException.class)
                     .verify();
 
-            verify(passwordEncoder, never()).matches(any(), any());
+            verify(authUserRepository, never()).findCredentialsByEmail(any());
+            verify(passwordHashingService, never()).matches(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throttle on the normalized email")
+        void shouldThrottleOnNormalizedEmail() {
+            // Arrange
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().email(" Login@Example.COM").build();
+            when(loginThrottleService.checkAttempt(CLIENT_ADDRESS, "login@example.com"))
+                    .thenReturn(Mono.error(new TooManyRequestsException("Too many login attempts",
+                            Duration.ofSeconds(30))));
+
+            // Act & Assert
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectError(TooManyRequestsException.class)
+                    .verify();
         }
 
         @Test
-        @DisplayName("Should throw UnauthorizedException when user is deleted")
-        void shouldThrowUnauthorizedException_whenUserDeleted() {
+        @DisplayName("Should answer a locked user like a wrong password, without checking the password")
+        void shouldRejectLockedUser_likeBadCredentials() {
             // Arrange
-            LoginRequest request = createValidLoginRequest();
-            AuthUser user = createAuthUser(request.getEmail(), Role.VOLUNTEER);
-            user.setStatus(UserStatus.DELETED);
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 5);
 
-            when(authUserRepository.findByEmail(request.getEmail())).thenReturn(Mono.just(user));
+            givenNotThrottled(request);
+            when(authUserRepository.findCredentialsByEmail(request.getEmail())).thenReturn(Mono.just(credentials));
+            when(loginThrottleService.checkNotLocked(credentials))
+                    .thenReturn(Mono.error(new UnauthorizedException("Invalid credentials")));
 
             // Act & Assert
-            StepVerifier.create(authService.login(request))
-                    .expectError(UnauthorizedException.class)
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectErrorMatches(throwable -> throwable instanceof UnauthorizedException &&
+                            throwable.getMessage().contains("Invalid credentials"))
                     .verify();
+
+            verify(passwordHashingService, never()).matches(any(), any());
+            verify(loginThrottleService, never()).recordFailure(any());
         }
     }
 
     @Nested
-    @DisplayName("Get Current User Tests")
-    class GetCurrentUserTests {
+    @DisplayName("Rehash Tests")
+    class RehashTests {
 
         @Test
-        @DisplayName("Should return user info when user exists")
-        void shouldReturnUserInfo_whenUserExists() {
+        @DisplayName("Should rewrite a stale hash with compare-and-set on the old hash")
+        void shouldRewriteStaleHash() {
             // Arrange
-            UUID userId = UUID.randomUUID();
-            AuthUser user = createAuthUser("user@example.com", Role.COORDINATOR);
-            user.setId(userId);
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
+            givenSuccessfulLogin(request, credentials);
+            when(passwordHashingService.needsRehash(credentials.passwordHash())).thenReturn(true);
+            when(passwordHashingService.encode(request.getPassword())).thenReturn(Mono.just("upgradedHash"));
+            when(authUserRepository.updatePasswordHash(credentials.id(), credentials.passwordHash(), "upgradedHash"))
+                    .thenReturn(Mono.just(1));
+
+            // Act & Assert
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectNextCount(1)
+                    .verifyComplete();
 
-            when(authUserRepository.findById(userId)).thenReturn(Mono.just(user));
+            verify(authUserRepository).updatePasswordHash(credentials.id(), credentials.passwordHash(), "upgradedHash");
+        }
+
+        @Test
+        @DisplayName("Should not rewrite a hash that is current")
+        void shouldNotRewriteCurrentHash() {
+            // Arrange
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
+            givenSuccessfulLogin(request, credentials);
+            when(passwordHashingService.needsRehash(credentials.passwordHash())).thenReturn(false);
 
             // Act & Assert
-            StepVerifier.create(authService.getCurrentUser(userId))
-                    .assertNext(response -> {
-                        assertThat(response.getUserId()).isEqualTo(userId);
-                        assertThat(response.getEmail()).isEqualTo(user.getEmail());
-                        assertThat(response.getRole()).isEqualTo(Role.COORDINATOR);
-                        assertThat(response.isActive()).isTrue();
-                    })
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectNextCount(1)
                     .verifyComplete();
+
+            verify(passwordHashingService, never()).encode(any());
+            verify(authUserRepository, never()).updatePasswordHash(any(), any(), any());
         }
 
         @Test
-        @DisplayName("Should throw NotFoundException when user not found")
-        void shouldThrowNotFoundException_whenUserNotFound() {
+        @DisplayName("Should answer the login before the rewrite has finished")
+        void shouldNotWaitForRewrite() {
             // Arrange
-            UUID userId = UUID.randomUUID();
-            when(authUserRepository.findById(userId)).thenReturn(Mono.empty());
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
+            Sinks.One<String> pendingEncode = Sinks.one();
+            givenSuccessfulLogin(request, credentials);
+            when(passwordHashingService.needsRehash(credentials.passwordHash())).thenReturn(true);
+            when(passwordHashingService.encode(request.getPassword())).thenReturn(pendingEncode.asMono());
+            when(authUserRepository.updatePasswordHash(credentials.id(), credentials.passwordHash(), "upgradedHash"))
+                    .thenReturn(Mono.just(1));
 
             // Act & Assert
-            StepVerifier.create(authService.getCurrentUser(userId))
-                    .expectError(NotFoundException.class)
-                    .verify();
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectNextCount(1)
+                    .verifyComplete();
+            verify(authUserRepository, never()).updatePasswordHash(any(), any(), any());
+
+            pendingEncode.tryEmitValue("upgradedHash");
+            verify(authUserRepository).updatePasswordHash(credentials.id(), credentials.passwordHash(), "upgradedHash");
+        }
+
+        @Test
+        @DisplayName("Should still log in when the rewrite fails")
+        void shouldIgnoreRewriteFailure() {
+            // Arrange
+            LoginRequestDTO request = TestDataBuilder.aLoginRequest().build();
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
+            givenSuccessfulLogin(request, credentials);
+            when(passwordHashingService.needsRehash(credentials.passwordHash())).thenReturn(true);
+            when(passwordHashingService.encode(request.getPassword()))
+                    .thenReturn(Mono.error(new ServiceUnavailableException("overloaded")));
+
+            // Act & Assert
+            StepVerifier.create(authService.login(request, CLIENT_ADDRESS))
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            verify(authUserRepository, never()).updatePasswordHash(any(), any(), any());
         }
     }
 
     @Nested
-    @DisplayName("Create User (Admin) Tests")
-    class CreateUserTests {
+    @DisplayName("Logout Tests")
+    class LogoutTests {
 
         @Test
-        @DisplayName("Should create user when admin provides valid data")
-        void shouldCreateUser_whenValidRequest() {
+        @DisplayName("Should revoke the access token and the session's refresh token family")
+        void shouldRevokeAccessAndRefreshFamily() {
             // Arrange
-            CreateUserRequest request = createValidCreateUserRequest();
-            AuthUser savedUser = createAuthUser(request.getEmail(), request.getRole());
-
-            when(authUserRepository.existsByEmail(request.getEmail())).thenReturn(Mono.just(false));
-            when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
-            when(authUserRepository.save(any(AuthUser.class))).thenReturn(Mono.just(savedUser));
+            TokenClaims claims = accessClaims();
+            when(jwtService.parseClaims("access-token")).thenReturn(claims);
+            when(tokenRevocationService.revoke(claims)).thenReturn(Mono.empty());
+            when(refreshTokenService.revoke(claims.userId(), "refresh-token")).thenReturn(Mono.empty());
 
             // Act & Assert
-            StepVerifier.create(authService.createUser(request))
-                    .assertNext(response -> {
-                        assertThat(response.getEmail()).isEqualTo(request.getEmail());
-                        assertThat(response.getRole()).isEqualTo(request.getRole());
-                        assertThat(response.isActive()).isTrue();
-                    })
-                    .verifyComplete();
+            StepVerifier.create(authService.logout("access-token", "refresh-token")).verifyComplete();
+
+            verify(tokenRevocationService).revoke(claims);
+            verify(refreshTokenService).revoke(claims.userId(), "refresh-token");
         }
 
         @Test
-        @DisplayName("Should throw BadRequestException when trying to create ADMIN")
-        void shouldThrowBadRequestException_whenCreatingAdmin() {
+        @DisplayName("Should revoke every refresh token family when none is presented")
+        void shouldRevokeAllFamiliesWithoutRefreshToken() {
             // Arrange
-            CreateUserRequest request = createValidCreateUserRequest();
-            request.setRole(Role.ADMIN);
+            TokenClaims claims = accessClaims();
+            when(jwtService.parseClaims("access-token")).thenReturn(claims);
+            when(tokenRevocationService.revoke(claims)).thenReturn(Mono.empty());
+            when(refreshTokenService.revoke(claims.userId(), null)).thenReturn(Mono.empty());
 
             // Act & Assert
-            StepVerifier.create(authService.createUser(request))
-                    .expectErrorMatches(throwable -> throwable instanceof BadRequestException &&
-                            throwable.getMessage().contains("Cannot create ADMIN users"))
-                    .verify();
+            StepVerifier.create(authService.logout("access-token", null)).verifyComplete();
 
-            verify(authUserRepository, never()).save(any());
+            verify(refreshTokenService).revoke(claims.userId(), null);
         }
 
         @Test
-        @DisplayName("Should throw ConflictException when email exists")
-        void shouldThrowConflictException_whenEmailExists() {
+        @DisplayName("Should revoke nothing for an invalid access token")
+        void shouldRejectInvalidAccessToken() {
             // Arrange
-            CreateUserRequest request = createValidCreateUserRequest();
-            when(authUserRepository.existsByEmail(request.getEmail())).thenReturn(Mono.just(true));
+            when(jwtService.parseClaims("garbage")).thenThrow(new IllegalArgumentException("malformed"));
 
             // Act & Assert
-            StepVerifier.create(authService.createUser(request))
-                    .expectError(ConflictException.class)
+            StepVerifier.create(authService.logout("garbage", "refresh-token"))
+                    .expectError(UnauthorizedException.class)
                     .verify();
+
+            verify(tokenRevocationService, never()).revoke(any());
+            verify(refreshTokenService, never()).revoke(any(), any());
+        }
+
+        private TokenClaims accessClaims() {
+            return new TokenClaims(UUID.randomUUID(), UUID.randomUUID(), Role.VOLUNTEER,
+                    new Date(System.currentTimeMillis() + 60_000), "coordvol-auth", 0);
         }
     }
 
     @Nested
-    @DisplayName("Update User Status Tests")
-    class UpdateStatusTests {
+    @DisplayName("Change Password Tests")
+    class ChangePasswordTests {
+
+        private final ChangePasswordRequestDTO request = ChangePasswordRequestDTO.builder()
+                .currentPassword("oldPassword")
+                .newPassword("newPassword")
+                .build();
 
         @Test
-        @DisplayName("Should update user status when user exists")
-        void shouldUpdateStatus_whenUserExists() {
+        @DisplayName("Should replace the hash, bump the epoch and revoke every refresh token")
+        void shouldChangePassword() {
             // Arrange
-            UUID userId = UUID.randomUUID();
-            UpdateStatusRequest request = new UpdateStatusRequest(UserStatus.INACTIVE);
-            AuthUser user = createAuthUser("user@example.com", Role.VOLUNTEER);
-            user.setId(userId);
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 1);
+            givenCurrentPassword(credentials, true);
+            when(passwordHashingService.encode("newPassword")).thenReturn(Mono.just("newHash"));
+            when(transactionalOperator.transactional(any(Mono.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(authUserRepository.changePassword(credentials.id(), credentials.passwordHash(), "newHash",
+                    LocalDateTime.now(CLOCK))).thenReturn(Mono.just(1));
+            when(refreshTokenService.revoke(credentials.id(), null)).thenReturn(Mono.empty());
+            when(loginThrottleService.recordSuccess(credentials)).thenReturn(Mono.empty());
 
-            when(authUserRepository.findById(userId)).thenReturn(Mono.just(user));
-            when(authUserRepository.save(any(AuthUser.class))).thenAnswer(invocation -> {
-                AuthUser savedUser = invocation.getArgument(0);
-                return Mono.just(savedUser);
-            });
+            // Act & Assert
+            StepVerifier.create(authService.changePassword(credentials.id(), request)).verifyComplete();
+
+            verify(refreshTokenService).revoke(credentials.id(), null);
+            verify(loginThrottleService).recordSuccess(credentials);
+        }
+
+        @Test
+        @DisplayName("Should count a wrong current password as a failed attempt")
+        void shouldRejectWrongCurrentPassword() {
+            // Arrange
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
+            givenCurrentPassword(credentials, false);
+            when(loginThrottleService.recordFailure(credentials.id())).thenReturn(Mono.empty());
 
             // Act & Assert
-            StepVerifier.create(authService.updateUserStatus(userId, request))
-                    .assertNext(response -> {
-                        assertThat(response.getUserId()).isEqualTo(userId);
-                        assertThat(response.getStatus()).isEqualTo(UserStatus.INACTIVE);
-                    })
-                    .verifyComplete();
+            StepVerifier.create(authService.changePassword(credentials.id(), request))
+                    .expectError(UnauthorizedException.class)
+                    .verify();
 
-            verify(authUserRepository).findById(userId);
-            verify(authUserRepository).save(argThat(u -> u.getStatus() == UserStatus.INACTIVE));
+            verify(passwordHashingService, never()).encode(any());
+            verify(authUserRepository, never()).changePassword(any(), any(), any(), any());
+            verify(refreshTokenService, never()).revoke(any(), any());
         }
 
         @Test
-        @DisplayName("Should throw NotFoundException when user not found")
-        void shouldThrowNotFoundException_whenUserNotFound() {
+        @DisplayName("Should report a password changed in the meantime as a conflict")
+        void shouldRejectConcurrentChange() {
             // Arrange
-            UUID userId = UUID.randomUUID();
-            UpdateStatusRequest request = new UpdateStatusRequest(UserStatus.DELETED);
+            LoginCredentials credentials = credentials(UserStatus.ACTIVE, 0);
+            givenCurrentPassword(credentials, true);
+            when(passwordHashingService.encode("newPassword")).thenReturn(Mono.just("newHash"));
+            when(transactionalOperator.transactional(any(Mono.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            when(authUserRepository.changePassword(any(), any(), any(), any())).thenReturn(Mono.just(0));
+
+            // Act & Assert
+            StepVerifier.create(authService.changePassword(credentials.id(), request))
+                    .expectError(ConflictException.class)
+                    .verify();
 
-            when(authUserRepository.findById(userId)).thenReturn(Mono.empty());
+            verify(refreshTokenService, never()).revoke(any(), any());
+            verify(loginThrottleService, never()).recordSuccess(any());
+        }
+
+        @Test
+        @DisplayName("Should not change the password of an inactive user")
+        void shouldRejectInactiveUser() {
+            // Arrange
+            LoginCredentials credentials = credentials(UserStatus.INACTIVE, 0);
+            when(authUserRepository.findCredentialsById(credentials.id())).thenReturn(Mono.just(credentials));
 
             // Act & Assert
-            StepVerifier.create(authService.updateUserStatus(userId, request))
-                    .expectError(NotFoundException.class)
+            StepVerifier.create(authService.changePassword(credentials.id(), request))
+                    .expectError(UnauthorizedException.class)
                     .verify();
 
-            verify(authUserRepository, never()).save(any());
+            verify(passwordHashingService, never()).matches(any(), any());
+        }
+
+        private void givenCurrentPassword(LoginCredentials credentials, boolean matches) {
+            when(authUserRepository.findCredentialsById(credentials.id())).thenReturn(Mono.just(credentials));
+            when(loginThrottleService.checkNotLocked(credentials)).thenReturn(Mono.empty());
+            when(passwordHashingService.matches("oldPassword", credentials.passwordHash()))
+                    .thenReturn(Mono.just(matches));
         }
     }
 
     // Helper methods for test data creation
 
-    private RegisterRequest createValidRegisterRequest() {
-        return RegisterRequest.builder()
-                .email("test@example.com")
-                .password("password123")
-                .firstName("John")
-                .lastName("Doe")
-                .role(Role.VOLUNTEER)
-                .language(Language.EN)
-                .build();
+    private void givenNotThrottled(LoginRequestDTO request) {
+        when(loginThrottleService.checkAttempt(CLIENT_ADDRESS, request.getEmail())).thenReturn(Mono.empty());
     }
 
-    private LoginRequest createValidLoginRequest() {
-        return LoginRequest.builder()
-                .email("test@example.com")
-                .password("password123")
-                .build();
+    private void givenSuccessfulLogin(LoginRequestDTO request, LoginCredentials credentials) {
+        givenNotThrottled(request);
+        when(authUserRepository.findCredentialsByEmail(request.getEmail())).thenReturn(Mono.just(credentials));
+        when(loginThrottleService.checkNotLocked(credentials)).thenReturn(Mono.empty());
+        when(passwordHashingService.matches(request.getPassword(), credentials.passwordHash()))
+                .thenReturn(Mono.just(true));
+        when(loginThrottleService.recordSuccess(credentials)).thenReturn(Mono.empty());
+        when(refreshTokenService.issue(credentials.id())).thenReturn(Mono.just("refresh-token"));
+        when(jwtService.generateToken(credentials.id(), credentials.role(), credentials.tokenEpoch()))
+                .thenReturn("jwt-token-123");
     }
 
-    private CreateUserRequest createValidCreateUserRequest() {
-        return CreateUserRequest.builder()
-                .email("newuser@example.com")
-                .password("password123")
-                .role(Role.COORDINATOR)
-                .build();
-    }
-
-    private AuthUser createAuthUser(String email, Role role) {
-        return AuthUser.builder()
-                .id(UUID.randomUUID())
-                .email(email)
-                .passwordHash("$2a$10$hashedPassword")
-                .role(role)
-                .status(UserStatus.ACTIVE)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    private static LoginCredentials credentials(UserStatus status, int failedAttempts) {
+        return new LoginCredentials(UUID.randomUUID(), TestDataBuilder.testPasswordHash(), Role.COORDINATOR,
+                status, 3, failedAttempts, null);
     }
 }
@@ -0,0 +1,443 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.coordvol.auth_service.domain.entity.AuthUser;
+import com.coordvol.auth_service.domain.enums.Language;
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+import com.coordvol.auth_service.dto.BulkUserResultDTO;
+import com.coordvol.auth_service.dto.BulkUserResultDTO.Status;
+import com.coordvol.auth_service.dto.CreateUserRequestDTO;
+import com.coordvol.auth_service.outbox.OutboxRepository;
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.impl.BulkUserProvisioningServiceImpl;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for BulkUserProvisioningService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk User Provisioning Service Test")
+public class BulkUserProvisioningServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Captor
+    private ArgumentCaptor<List<AuthUser>> batchCaptor;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final Set<String> takenEmails = new HashSet<>();
+    private BulkUserProvisioningService bulkUserProvisioningService;
+
+    @BeforeEach
+    void setUp() {
+        bulkUserProvisioningService = service(BATCH_SIZE);
+        lenient().when(passwordHashingService.encode(anyString()))
+                .thenAnswer(invocation -> Mono.just("$2a$10$" + invocation.getArgument(0)));
+        // Stores every user whose email is not taken yet, like the ON CONFLICT insert
+        lenient().when(authUserRepository.insertAllIfEmailAbsent(anyList()))
+                .thenAnswer(invocation -> insertAbsent(invocation.getArgument(0)));
+        lenient().when(outboxRepository.append(any(), eq(UserProfileCreatedEvent.TYPE), anyString()))
+                .thenReturn(Mono.empty());
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Nested
+    @DisplayName("Per-Row Result Tests")
+    class PerRowResultTests {
+
+        @Test
+        @DisplayName("Should report one result per row in input order")
+        void shouldReportResultsInOrder() {
+            // Arrange
+            Flux<CreateUserRequestDTO> requests = Flux.just(
+                    request("first@example.com", Role.VOLUNTEER),
+                    request("second@example.com", Role.COORDINATOR),
+                    request("third@example.com", Role.VOLUNTEER));
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(requests))
+                    .assertNext(result -> assertCreated(result, 1, "first@example.com"))
+                    .assertNext(result -> assertCreated(result, 2, "second@example.com"))
+                    .assertNext(result -> assertCreated(result, 3, "third@example.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should normalize emails before inserting")
+        void shouldNormalizeEmail() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(
+                            Flux.just(request("  Mixed.Case@Example.COM ", Role.VOLUNTEER))))
+                    .assertNext(result -> assertCreated(result, 1, "mixed.case@example.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject non-ASCII emails, whose lower-casing depends on the database locale")
+        void shouldRejectNonAsciiEmail() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(
+                            Flux.just(request("\u00C9lodie@example.com", Role.VOLUNTEER))))
+                    .assertNext(result -> assertRejected(result, 1, Status.INVALID,
+                            "Email must only contain ASCII characters"))
+                    .verifyComplete();
+
+            verify(passwordHashingService, never()).encode(anyString());
+        }
+
+        @Test
+        @DisplayName("Should report an email that already exists as a conflict")
+        void shouldReportExistingEmail() {
+            // Arrange
+            takenEmails.add("taken@example.com");
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(Flux.just(
+                            request("taken@example.com", Role.VOLUNTEER),
+                            request("free@example.com", Role.VOLUNTEER))))
+                    .assertNext(result -> assertRejected(result, 1, Status.CONFLICT, "Email already exists"))
+                    .assertNext(result -> assertCreated(result, 2, "free@example.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should send a repeated email to the database only once")
+        void shouldReportDuplicateInRequest() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(Flux.just(
+                            request("twice@example.com", Role.VOLUNTEER),
+                            request("TWICE@example.com", Role.COORDINATOR))))
+                    .assertNext(result -> assertCreated(result, 1, "twice@example.com"))
+                    .assertNext(result -> assertRejected(result, 2, Status.CONFLICT, "Duplicate email in request"))
+                    .verifyComplete();
+
+            verify(authUserRepository).insertAllIfEmailAbsent(batchCaptor.capture());
+            assertThat(batchCaptor.getValue()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid rows without hashing them")
+        void shouldRejectInvalidRows() {
+            // Arrange
+            CreateUserRequestDTO shortPassword = CreateUserRequestDTO.builder()
+                    .email("short@example.com").password("123").role(Role.VOLUNTEER).build();
+            CreateUserRequestDTO noRole = CreateUserRequestDTO.builder()
+                    .email("norole@example.com").password("password123").build();
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(Flux.just(
+                            shortPassword, noRole, request("admin@example.com", Role.ADMIN))))
+                    .assertNext(result -> assertRejected(result, 1, Status.INVALID,
+                            "Password must be at least 6 characters"))
+                    .assertNext(result -> assertRejected(result, 2, Status.INVALID, "Role is required"))
+                    .assertNext(result -> assertRejected(result, 3, Status.INVALID, "Cannot create ADMIN users"))
+                    .verifyComplete();
+
+            verify(passwordHashingService, never()).encode(anyString());
+        }
+
+        @Test
+        @DisplayName("Should report a row whose hashing failed and keep going")
+        void shouldReportHashingFailure() {
+            // Arrange
+            when(passwordHashingService.encode("broken-password"))
+                    .thenReturn(Mono.error(new IllegalStateException("hashing pool shut down")));
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(Flux.just(
+                            CreateUserRequestDTO.builder()
+                                    .email("broken@example.com").password("broken-password").role(Role.VOLUNTEER)
+                                    .build(),
+                            request("fine@example.com", Role.VOLUNTEER))))
+                    .assertNext(result -> assertRejected(result, 1, Status.FAILED, "hashing pool shut down"))
+                    .assertNext(result -> assertCreated(result, 2, "fine@example.com"))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching Tests")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("Should insert in batches of the configured size")
+        void shouldInsertInBatches() {
+            // Arrange
+            Flux<CreateUserRequestDTO> requests = Flux.range(1, 5)
+                    .map(i -> request("user" + i + "@example.com", Role.VOLUNTEER));
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(requests))
+                    .expectNextCount(5)
+                    .verifyComplete();
+
+            verify(authUserRepository, times(3)).insertAllIfEmailAbsent(batchCaptor.capture());
+            assertThat(batchCaptor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        }
+
+        @Test
+        @DisplayName("Should fail only the rows of the batch whose insert failed")
+        void shouldFailOnlyTheFailedBatch() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+            when(authUserRepository.insertAllIfEmailAbsent(anyList())).thenAnswer(invocation ->
+                    calls.incrementAndGet() == 1
+                            ? Flux.error(new IllegalStateException("connection reset"))
+                            : insertAbsent(invocation.getArgument(0)));
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(Flux.just(
+                            request("a@example.com", Role.VOLUNTEER),
+                            request("b@example.com", Role.VOLUNTEER),
+                            request("c@example.com", Role.VOLUNTEER))))
+                    .assertNext(result -> assertRejected(result, 1, Status.FAILED, "connection reset"))
+                    .assertNext(result -> assertRejected(result, 2, Status.FAILED, "connection reset"))
+                    .assertNext(result -> assertCreated(result, 3, "c@example.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should stream results of a full batch before the input completes")
+        void shouldStreamResults() {
+            // Arrange
+            Sinks.Many<CreateUserRequestDTO> input = Sinks.many().unicast().onBackpressureBuffer();
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(input.asFlux()))
+                    .then(() -> {
+                        input.tryEmitNext(request("early1@example.com", Role.VOLUNTEER));
+                        input.tryEmitNext(request("early2@example.com", Role.VOLUNTEER));
+                    })
+                    .assertNext(result -> assertCreated(result, 1, "early1@example.com"))
+                    .assertNext(result -> assertCreated(result, 2, "early2@example.com"))
+                    .then(() -> input.tryEmitNext(request("late@example.com", Role.VOLUNTEER)))
+                    .expectNoEvent(Duration.ofMillis(50))
+                    .then(input::tryEmitComplete)
+                    .assertNext(result -> assertCreated(result, 3, "late@example.com"))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Outbox Tests")
+    class OutboxTests {
+
+        @Test
+        @DisplayName("Should append a profile event for each created user in the batch transaction")
+        void shouldAppendProfileEvents() {
+            // Arrange
+            takenEmails.add("taken@example.com");
+            CreateUserRequestDTO named = CreateUserRequestDTO.builder()
+                    .email("named@example.com").password("password123").role(Role.VOLUNTEER)
+                    .firstName("Ana").lastName("Diaz").language(Language.ES)
+                    .build();
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(Flux.just(
+                            named, request("taken@example.com", Role.VOLUNTEER))))
+                    .assertNext(result -> {
+                        assertCreated(result, 1, "named@example.com");
+                        verify(outboxRepository).append(eq(result.getUserId()), eq(UserProfileCreatedEvent.TYPE),
+                                payload.capture());
+                    })
+                    .assertNext(result -> assertRejected(result, 2, Status.CONFLICT, "Email already exists"))
+                    .verifyComplete();
+
+            verify(transactionalOperator).transactional(any(Mono.class));
+            assertThat(payload.getValue())
+                    .contains("\"email\":\"named@example.com\"")
+                    .contains("\"firstName\":\"Ana\"")
+                    .contains("\"language\":\"ES\"");
+        }
+
+        @Test
+        @DisplayName("Should fail the batch when its outbox append fails")
+        void shouldFailBatchWhenAppendFails() {
+            // Arrange
+            when(outboxRepository.append(any(), eq(UserProfileCreatedEvent.TYPE), anyString()))
+                    .thenReturn(Mono.error(new IllegalStateException("outbox unavailable")));
+
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(
+                            Flux.just(request("a@example.com", Role.VOLUNTEER))))
+                    .assertNext(result -> assertRejected(result, 1, Status.FAILED, "outbox unavailable"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not open a transaction for a batch without insertable rows")
+        void shouldSkipTransactionForRejectedBatch() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsers(
+                            Flux.just(request("admin@example.com", Role.ADMIN))))
+                    .assertNext(result -> assertRejected(result, 1, Status.INVALID, "Cannot create ADMIN users"))
+                    .verifyComplete();
+
+            verify(transactionalOperator, never()).transactional(any(Mono.class));
+            verify(authUserRepository, never()).insertAllIfEmailAbsent(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Tests")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Should refuse a batch size over the bind parameter limit")
+        void shouldRejectOversizedBatchSize() {
+            // Act & Assert
+            assertThat(service(16_383)).isNotNull();
+            assertThatThrownBy(() -> service(16_384))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("auth.bulk.batch-size");
+            assertThatThrownBy(() -> service(0))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV Tests")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Should skip the header and blank lines but count them in line numbers")
+        void shouldSkipHeaderAndBlankLines() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsersFromCsv(Flux.just(
+                            "email,password,role", "", "csv@example.com,password123,volunteer", "   ",
+                            "next@example.com,password123,volunteer")))
+                    .assertNext(result -> assertCreated(result, 3, "csv@example.com"))
+                    .assertNext(result -> assertCreated(result, 5, "next@example.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should keep commas and quotes inside quoted fields")
+        void shouldParseQuotedFields() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsersFromCsv(
+                            Flux.just("\"quoted@example.com\",\"pa,ss\"\"word\",COORDINATOR")))
+                    .assertNext(result -> assertCreated(result, 1, "quoted@example.com"))
+                    .verifyComplete();
+
+            verify(passwordHashingService).encode("pa,ss\"word");
+        }
+
+        @Test
+        @DisplayName("Should report a malformed line as invalid and keep going")
+        void shouldRejectMalformedLine() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsersFromCsv(Flux.just(
+                            "broken@example.com,\"unterminated,VOLUNTEER",
+                            "ok@example.com,password123,VOLUNTEER")))
+                    .assertNext(result -> assertRejected(result, 1, Status.INVALID,
+                            "Malformed CSV: unterminated quote"))
+                    .assertNext(result -> assertCreated(result, 2, "ok@example.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should report an unknown role as invalid")
+        void shouldRejectUnknownRole() {
+            // Act & Assert
+            StepVerifier.create(bulkUserProvisioningService.createUsersFromCsv(
+                            Flux.just("role@example.com,password123,SUPERUSER")))
+                    .assertNext(result -> assertRejected(result, 1, Status.INVALID, "Role is required"))
+                    .verifyComplete();
+        }
+    }
+
+    private BulkUserProvisioningService service(int batchSize) {
+        return new BulkUserProvisioningServiceImpl(authUserRepository, passwordHashingService, outboxRepository,
+                transactionalOperator, JsonMapper.builder().build(), validatorFactory.getValidator(), batchSize, 2);
+    }
+
+    private Flux<AuthUser> insertAbsent(List<AuthUser> users) {
+        return Flux.fromIterable(users)
+                .filter(user -> takenEmails.add(user.getEmail()))
+                .map(user -> {
+                    user.setId(UUID.randomUUID());
+                    return user;
+                });
+    }
+
+    private static CreateUserRequestDTO request(String email, Role role) {
+        return CreateUserRequestDTO.builder()
+                .email(email)
+                .password("password123")
+                .role(role)
+                .build();
+    }
+
+    private static void assertCreated(BulkUserResultDTO result, long line, String email) {
+        assertThat(result.getLine()).isEqualTo(line);
+        assertThat(result.getEmail()).isEqualTo(email);
+        assertThat(result.getStatus()).isEqualTo(Status.CREATED);
+        assertThat(result.getUserId()).isNotNull();
+        assertThat(result.getError()).isNull();
+    }
+
+    private static void assertRejected(BulkUserResultDTO result, long line, Status status, String error) {
+        assertThat(result.getLine()).isEqualTo(line);
+        assertThat(result.getStatus()).isEqualTo(status);
+        assertThat(result.getUserId()).isNull();
+        assertThat(result.getError()).isEqualTo(error);
+    }
+}
@@ -1,6 +1,18 @@
 package com.coordvol.auth_service.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -9,7 +21,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import com.coordvol.auth_service.domain.enums.Role;
-import com.coordvol.auth_service.service.impl.JwtServiceImpl;
+import com.coordvol.auth_service.security.SigningKeyRing;
+import com.coordvol.auth_service.security.SigningKeyRing.SigningKey;
+import com.coordvol.auth_service.testutil.JwtServiceBuilder;
+import com.coordvol.auth_service.testutil.MutableClock;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,7 +49,7 @@ public class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtServiceImpl(secret, expiration, issuer);
+        jwtService = JwtServiceBuilder.jwtService(secret, expiration, issuer).build();
     }
 
     @Nested
@@ -112,6 +133,28 @@ public class JwtServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Claims Parsing Tests")
+    class ClaimsParsingTest {
+
+        @Test
+        @DisplayName("Should expose all claims from a single parse")
+        void shouldParseAllClaimsAtOnce() {
+            // Arrange
+            UUID userId = UUID.randomUUID();
+            String token = jwtService.generateToken(userId, Role.COORDINATOR);
+
+            // Act
+            TokenClaims claims = jwtService.parseClaims(token);
+
+            // Assert
+            assertThat(claims.userId()).isEqualTo(userId);
+            assertThat(claims.role()).isEqualTo(Role.COORDINATOR);
+            assertThat(claims.issuer()).isEqualTo(issuer);
+            assertThat(claims.expiration()).isEqualTo(jwtService.extractExpiration(token));
+        }
+    }
+
     @Nested
     @DisplayName("Token Validation Tests")
     class TokenValidationTest {
@@ -158,25 +201,297 @@ public class JwtServiceTest {
         }
         
         @Test
-        @DisplayName("Should reject expired token")
+        @DisplayName("Should reject a token once the clock passes its expiration")
         void shouldRejectExpiredToken() {
-            // Arrange - Create service with very short expiration
-            JwtService shortLivedJwtService = new JwtServiceImpl(secret, 1L, issuer); // 1ms expiration
+            // Arrange
+            MutableClock clock = new MutableClock(Instant.parse("2026-03-02T07:30:00Z"));
+            JwtService clockedJwtService = JwtServiceBuilder.jwtService(secret, expiration, issuer).clock(clock).build();
+            String token = clockedJwtService.generateToken(UUID.randomUUID(), Role.VOLUNTEER);
+
+            // Act & Assert - still valid at the exact expiry instant, rejected one second later
+            clock.advance(Duration.ofMillis(expiration));
+            assertThat(clockedJwtService.validateToken(token)).isTrue();
+            assertThat(clockedJwtService.parseClaims(token).expiration())
+                    .isEqualTo(Date.from(Instant.parse("2026-03-02T08:30:00Z")));
+
+            clock.advance(Duration.ofSeconds(1));
+            assertThat(clockedJwtService.validateToken(token)).isFalse();
+            assertThat(clockedJwtService.verifyToken(token).result()).isEqualTo(TokenValidationResult.EXPIRED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Key Rotation Tests")
+    class KeyRotationTest {
+
+        @Test
+        @DisplayName("Should sign with the active key and put its kid in the header")
+        void shouldSignWithActiveKey() throws Exception {
+            // Arrange
+            Instant now = Instant.now();
+            SigningKey previous = signingKey("k1", now.minusSeconds(3600), now.plusSeconds(3600));
+            SigningKey current = signingKey("k2", now.minusSeconds(60), null);
+            JwtService rotatingService = serviceWith(new SigningKeyRing(List.of(previous, current)));
+
+            // Act
+            String token = rotatingService.generateToken(UUID.randomUUID(), Role.VOLUNTEER);
+
+            // Assert
+            String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+            assertThat(header).contains("\"kid\":\"k2\"").contains("ES256");
+            assertThat(rotatingService.validateToken(token)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep verifying tokens of a retired key until it expires")
+        void shouldVerifyWithOverlappingKey() throws Exception {
+            // Arrange
+            Instant now = Instant.now();
+            SigningKey old = signingKey("k1", now.minusSeconds(3600), now.plusSeconds(3600));
+            String tokenFromOldKey = serviceWith(new SigningKeyRing(List.of(old)))
+                    .generateToken(UUID.randomUUID(), Role.VOLUNTEER);
+            SigningKey next = signingKey("k2", now.minusSeconds(60), null);
+
+            // Act
+            boolean overlapping = serviceWith(new SigningKeyRing(List.of(old, next))).validateToken(tokenFromOldKey);
+            boolean afterRemoval = serviceWith(new SigningKeyRing(List.of(next))).validateToken(tokenFromOldKey);
+
+            // Assert
+            assertThat(overlapping).isTrue();
+            assertThat(afterRemoval).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should still accept HMAC tokens without a kid")
+        void shouldAcceptLegacyHmacToken() throws Exception {
+            // Arrange
+            String legacyToken = jwtService.generateToken(UUID.randomUUID(), Role.VOLUNTEER);
+            Instant now = Instant.now();
+            JwtService rotatingService = serviceWith(
+                    new SigningKeyRing(List.of(signingKey("k1", now.minusSeconds(60), null))));
+
+            // Act & Assert
+            assertThat(rotatingService.validateToken(legacyToken)).isTrue();
+        }
+
+        private JwtService serviceWith(SigningKeyRing keyRing) {
+            return JwtServiceBuilder.jwtService(secret, expiration, issuer).keyRing(keyRing).build();
+        }
+
+        private SigningKey signingKey(String kid, Instant activatesAt, Instant expiresAt) throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            return new SigningKey(kid, (ECPublicKey) keyPair.getPublic(), keyPair.getPrivate(), activatesAt, expiresAt);
+        }
+    }
+
+    @Nested
+    @DisplayName("Compact Profile Tests")
+    class CompactProfileTest {
+
+        @Test
+        @DisplayName("Should produce a shorter token carrying the same claims")
+        void shouldProduceShorterToken() {
+            // Arrange
+            JwtService compactService = JwtServiceBuilder.jwtService(secret, expiration, issuer).compact(true).build();
             UUID userId = UUID.randomUUID();
-            String token = shortLivedJwtService.generateToken(userId, Role.VOLUNTEER);
-            
-            // Wait for token to expire
-            try {
-                Thread.sleep(10);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+
+            // Act
+            String standardToken = jwtService.generateToken(userId, Role.COORDINATOR, 2);
+            String compactToken = compactService.generateToken(userId, Role.COORDINATOR, 2);
+            TokenClaims claims = compactService.parseClaims(compactToken);
+
+            // Assert
+            assertThat(compactToken.length()).isLessThan(standardToken.length());
+            assertThat(claims.userId()).isEqualTo(userId);
+            assertThat(claims.role()).isEqualTo(Role.COORDINATOR);
+            assertThat(claims.tokenEpoch()).isEqualTo(2);
+            assertThat(claims.tokenId()).isNotNull();
+            assertThat(claims.issuer()).isEqualTo(issuer);
+        }
+
+        @Test
+        @DisplayName("Should decode tokens of either profile")
+        void shouldDecodeBothProfiles() {
+            // Arrange
+            JwtService compactService = JwtServiceBuilder.jwtService(secret, expiration, issuer).compact(true).build();
+            UUID userId = UUID.randomUUID();
+            String standardToken = jwtService.generateToken(userId, Role.ADMIN);
+            String compactToken = compactService.generateToken(userId, Role.ADMIN);
+
+            // Act & Assert
+            assertThat(compactService.extractUserId(standardToken)).isEqualTo(userId);
+            assertThat(jwtService.extractUserId(compactToken)).isEqualTo(userId);
+            assertThat(jwtService.extractRole(compactToken)).isEqualTo(Role.ADMIN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Typed Validation Tests")
+    class TypedValidationTest {
+
+        @Test
+        @DisplayName("Should classify each kind of rejected token")
+        void shouldClassifyRejections() {
+            // Arrange
+            UUID userId = UUID.randomUUID();
+            String valid = jwtService.generateToken(userId, Role.VOLUNTEER);
+            String expired = JwtServiceBuilder.jwtService(secret, -60000L, issuer).build().generateToken(userId, Role.VOLUNTEER);
+            String foreignIssuer = JwtServiceBuilder.jwtService(secret, expiration, "someone-else").build()
+                    .generateToken(userId, Role.VOLUNTEER);
+            int signatureMiddle = valid.lastIndexOf('.') + (valid.length() - valid.lastIndexOf('.')) / 2;
+            String tampered = valid.substring(0, signatureMiddle)
+                    + (valid.charAt(signatureMiddle) == 'A' ? 'B' : 'A')
+                    + valid.substring(signatureMiddle + 1);
+
+            // Act & Assert
+            assertThat(jwtService.verifyToken(valid).result()).isEqualTo(TokenValidationResult.VALID);
+            assertThat(jwtService.verifyToken(expired).result()).isEqualTo(TokenValidationResult.EXPIRED);
+            assertThat(jwtService.verifyToken(foreignIssuer).result()).isEqualTo(TokenValidationResult.WRONG_ISSUER);
+            assertThat(jwtService.verifyToken(tampered).result()).isEqualTo(TokenValidationResult.BAD_SIGNATURE);
+            assertThat(jwtService.verifyToken("not.a.valid.token").result()).isEqualTo(TokenValidationResult.MALFORMED);
+            assertThat(jwtService.verifyToken("%%%.###.!!!").result()).isEqualTo(TokenValidationResult.MALFORMED);
+            assertThat(jwtService.isTokenExpired(expired)).isTrue();
+            assertThat(jwtService.isTokenExpired(valid)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should return the verified claims with a valid result")
+        void shouldReturnClaimsWhenValid() {
+            // Arrange
+            UUID userId = UUID.randomUUID();
+            String token = jwtService.generateToken(userId, Role.ADMIN, 3);
+
+            // Act
+            TokenVerification verification = jwtService.verifyToken(token);
+
+            // Assert
+            assertThat(verification.isValid()).isTrue();
+            assertThat(verification.claims().userId()).isEqualTo(userId);
+            assertThat(verification.claims().role()).isEqualTo(Role.ADMIN);
+            assertThat(verification.claims().tokenEpoch()).isEqualTo(3);
+            assertThat(jwtService.verifyToken("garbage").claims()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should accept and reject exactly the tokens jjwt accepts and rejects")
+        void shouldAgreeWithJjwt() throws Exception {
+            // Arrange
+            SigningKey signingKey = signingKey("k1");
+            JwtService keyRingService = JwtServiceBuilder.jwtService(secret, expiration, issuer)
+                    .keyRing(new SigningKeyRing(List.of(signingKey)))
+                    .build();
+            JwtService compactService = JwtServiceBuilder.jwtService(secret, expiration, issuer).compact(true).build();
+            Key hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            UUID userId = UUID.randomUUID();
+            Date now = new Date();
+            Date inAnHour = new Date(now.getTime() + expiration);
+            String valid = jwtService.generateToken(userId, Role.ADMIN, 3);
+
+            Map<String, String> tokens = new LinkedHashMap<>();
+            tokens.put("standard", valid);
+            tokens.put("compact", compactService.generateToken(userId, Role.COORDINATOR, 2));
+            tokens.put("es256 with kid", keyRingService.generateToken(userId, Role.VOLUNTEER, 0));
+            tokens.put("expired", JwtServiceBuilder.jwtService(secret, -60000L, issuer).build()
+                    .generateToken(userId, Role.VOLUNTEER));
+            tokens.put("foreign issuer", JwtServiceBuilder.jwtService(secret, expiration, "someone-else").build()
+                    .generateToken(userId, Role.VOLUNTEER));
+            tokens.put("tampered", valid.substring(0, valid.length() - 2)
+                    + (valid.charAt(valid.length() - 2) == 'A' ? "B" : "A") + valid.charAt(valid.length() - 1));
+            tokens.put("weaker hmac alg", hmacToken(hmacKey, SignatureAlgorithm.HS256, userId, null, now, inAnHour));
+            tokens.put("alg none", unsignedToken(valid));
+            tokens.put("crit header", hmacToken(hmacKey, SignatureAlgorithm.HS512, userId,
+                    Map.<String, Object>of("crit", List.of("exp")), now, inAnHour));
+            tokens.put("not yet valid", Jwts.builder()
+                    .setSubject(userId.toString()).claim("role", Role.VOLUNTEER).setIssuer(issuer)
+                    .setNotBefore(new Date(now.getTime() + 60_000)).setExpiration(inAnHour)
+                    .signWith(hmacKey, SignatureAlgorithm.HS512).compact());
+            tokens.put("hmac with kid", Jwts.builder()
+                    .setHeaderParam("kid", "k1")
+                    .setSubject(userId.toString()).claim("role", Role.VOLUNTEER).setIssuer(issuer)
+                    .setExpiration(inAnHour)
+                    .signWith(hmacKey, SignatureAlgorithm.HS512).compact());
+            tokens.put("unknown kid", keyRingService.generateToken(userId, Role.VOLUNTEER, 0)
+                    .replaceFirst("^[^.]+", base64Url("{\"kid\":\"k2\",\"alg\":\"ES256\"}")));
+            tokens.put("no role", Jwts.builder()
+                    .setSubject(userId.toString()).setIssuer(issuer).setExpiration(inAnHour)
+                    .signWith(hmacKey, SignatureAlgorithm.HS512).compact());
+            tokens.put("garbage", "not.a.valid.token");
+
+            for (Map.Entry<String, String> entry : tokens.entrySet()) {
+                JwtService service = entry.getKey().contains("kid") ? keyRingService : jwtService;
+
+                // Act
+                TokenVerification verification = service.verifyToken(entry.getValue());
+                TokenClaims parsed;
+                try {
+                    parsed = service.parseClaims(entry.getValue());
+                } catch (RuntimeException e) {
+                    parsed = null;
+                }
+
+                // Assert
+                assertThat(verification.isValid()).as(entry.getKey()).isEqualTo(parsed != null);
+                assertThat(verification.claims()).as(entry.getKey()).isEqualTo(parsed);
             }
-            
+            assertThat(jwtService.verifyToken(tokens.get("weaker hmac alg")).result())
+                    .isEqualTo(TokenValidationResult.BAD_SIGNATURE);
+            assertThat(jwtService.verifyToken(tokens.get("alg none")).result())
+                    .isEqualTo(TokenValidationResult.MALFORMED);
+            assertThat(jwtService.verifyToken(tokens.get("crit header")).result())
+                    .isEqualTo(TokenValidationResult.MALFORMED);
+            assertThat(jwtService.verifyToken(tokens.get("not yet valid")).result())
+                    .isEqualTo(TokenValidationResult.NOT_YET_VALID);
+        }
+
+        @Test
+        @DisplayName("Should count outcomes instead of throwing")
+        void shouldCountOutcomes() {
+            // Arrange
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            JwtService instrumented = JwtServiceBuilder.jwtService(secret, expiration, issuer)
+                    .meterRegistry(meterRegistry)
+                    .build();
+
             // Act
-            boolean isValid = shortLivedJwtService.validateToken(token);
-            
+            boolean valid = instrumented.validateToken("garbage");
+
             // Assert
-            assertThat(isValid).isFalse();
+            assertThat(valid).isFalse();
+            assertThat(meterRegistry.get("auth.jwt.validation").tag("result", "malformed").counter().count())
+                    .isEqualTo(1);
+        }
+
+        private String hmacToken(Key key, SignatureAlgorithm algorithm, UUID userId, Map<String, Object> header,
+                Date issuedAt, Date expiresAt) {
+            JwtBuilder builder = Jwts.builder()
+                    .setSubject(userId.toString())
+                    .claim("role", Role.VOLUNTEER)
+                    .setIssuer(issuer)
+                    .setIssuedAt(issuedAt)
+                    .setExpiration(expiresAt);
+            if (header != null) {
+                builder.setHeaderParams(header);
+            }
+            return builder.signWith(key, algorithm).compact();
+        }
+
+        private String unsignedToken(String token) {
+            String payload = token.substring(token.indexOf('.') + 1, token.lastIndexOf('.'));
+            return base64Url("{\"alg\":\"none\"}") + "." + payload + ".";
+        }
+
+        private String base64Url(String json) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private SigningKey signingKey(String kid) throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            return new SigningKey(kid, (ECPublicKey) keyPair.getPublic(), keyPair.getPrivate(),
+                    Instant.now().minusSeconds(60), null);
         }
     }
 }
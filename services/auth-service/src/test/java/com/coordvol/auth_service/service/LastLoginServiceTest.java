@@ -0,0 +1,102 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.impl.LastLoginServiceImpl;
+import com.coordvol.auth_service.testutil.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for LastLoginService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Last Login Service Test")
+public class LastLoginServiceTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T07:30:00Z");
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+
+    private final MutableClock clock = new MutableClock(START);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LastLoginServiceImpl lastLoginService;
+
+    @BeforeEach
+    void setUp() {
+        lastLoginService = new LastLoginServiceImpl(authUserRepository, clock, meterRegistry, 1000, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should write only the latest login per user in one batch")
+    void shouldCoalesceLogins() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        lastLoginService.recordLogin(first);
+        lastLoginService.recordLogin(second);
+        clock.advance(Duration.ofSeconds(2));
+        lastLoginService.recordLogin(first);
+        Map<UUID, Instant> expected = Map.of(first, START.plusSeconds(2), second, START);
+        when(authUserRepository.updateLastLogins(expected, 1000)).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(lastLoginService.flush()).verifyComplete();
+        StepVerifier.create(lastLoginService.flush()).verifyComplete();
+
+        verify(authUserRepository, times(1)).updateLastLogins(anyMap(), anyInt());
+        assertThat(meterRegistry.get("auth.last-login.writes").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep failed writes for the next flush")
+    void shouldRetryFailedFlush() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        lastLoginService.recordLogin(userId);
+        when(authUserRepository.updateLastLogins(eq(Map.of(userId, START)), anyInt()))
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")))
+                .thenReturn(Mono.just(1L));
+
+        // Act & Assert - the failure is swallowed and the entry written on the next flush
+        StepVerifier.create(lastLoginService.flush()).verifyComplete();
+        assertThat(meterRegistry.get("auth.last-login.pending").gauge().value()).isEqualTo(1);
+
+        StepVerifier.create(lastLoginService.flush()).verifyComplete();
+        assertThat(meterRegistry.get("auth.last-login.pending").gauge().value()).isZero();
+        verify(authUserRepository, times(2)).updateLastLogins(anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nobody logged in")
+    void shouldSkipEmptyFlush() {
+        // Act & Assert
+        StepVerifier.create(lastLoginService.flush()).verifyComplete();
+        lastLoginService.destroy();
+
+        verify(authUserRepository, never()).updateLastLogins(anyMap(), anyInt());
+    }
+}
@@ -0,0 +1,195 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.domain.projection.LoginCredentials;
+import com.coordvol.auth_service.exception.TooManyRequestsException;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.impl.LoginThrottleServiceImpl;
+import com.coordvol.auth_service.testutil.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for LoginThrottleService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Login Throttle Service Test")
+public class LoginThrottleServiceTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T07:30:00Z");
+    private static final int ADDRESS_CAPACITY = 5;
+    private static final int EMAIL_CAPACITY = 3;
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+
+    private final MutableClock clock = new MutableClock(START);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginThrottleServiceImpl loginThrottleService;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottleService = new LoginThrottleServiceImpl(authUserRepository, clock, meterRegistry, 1024,
+                ADDRESS_CAPACITY, Duration.ofSeconds(1), EMAIL_CAPACITY, Duration.ofSeconds(30),
+                5, Duration.ofMinutes(1), Duration.ofHours(1));
+    }
+
+    @Nested
+    @DisplayName("Attempt Budget Tests")
+    class AttemptBudgetTests {
+
+        @Test
+        @DisplayName("Should reject an email once its burst is spent and say when to retry")
+        void shouldThrottleEmail() {
+            // Arrange
+            for (int i = 0; i < EMAIL_CAPACITY; i++) {
+                StepVerifier.create(loginThrottleService.checkAttempt("10.0.0." + i, "user@example.com"))
+                        .verifyComplete();
+            }
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.checkAttempt("10.0.0.99", "user@example.com"))
+                    .expectErrorSatisfies(error -> {
+                        assertThat(error).isInstanceOf(TooManyRequestsException.class);
+                        assertThat(((TooManyRequestsException) error).getHeaders().getFirst("Retry-After"))
+                                .isEqualTo("30");
+                    })
+                    .verify();
+            assertThat(counter("email")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reject an address spraying many emails")
+        void shouldThrottleAddress() {
+            // Arrange
+            for (int i = 0; i < ADDRESS_CAPACITY; i++) {
+                StepVerifier.create(loginThrottleService.checkAttempt("10.0.0.1", "user" + i + "@example.com"))
+                        .verifyComplete();
+            }
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.checkAttempt("10.0.0.1", "other@example.com"))
+                    .expectError(TooManyRequestsException.class)
+                    .verify();
+            assertThat(counter("address")).isEqualTo(1);
+            assertThat(counter("email")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should allow the email again once a token has refilled")
+        void shouldRefillEmailBudget() {
+            // Arrange
+            for (int i = 0; i < EMAIL_CAPACITY; i++) {
+                loginThrottleService.checkAttempt("10.0.0." + i, "user@example.com").block();
+            }
+
+            // Act
+            clock.advance(Duration.ofSeconds(30));
+
+            // Assert
+            StepVerifier.create(loginThrottleService.checkAttempt("10.0.0.50", "user@example.com"))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lockout Tests")
+    class LockoutTests {
+
+        @Test
+        @DisplayName("Should answer a locked user exactly like a wrong password")
+        void shouldHideLockout() {
+            // Arrange
+            LoginCredentials locked = credentials(5, START.plusSeconds(60));
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.checkNotLocked(locked))
+                    .expectErrorSatisfies(error -> {
+                        assertThat(error).isInstanceOf(UnauthorizedException.class);
+                        assertThat(((UnauthorizedException) error).getReason()).isEqualTo("Invalid credentials");
+                        assertThat(((UnauthorizedException) error).getHeaders().containsHeader("Retry-After")).isFalse();
+                    })
+                    .verify();
+            assertThat(counter("locked")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should let the user in once the lockout has passed")
+        void shouldAllowAfterLockout() {
+            // Arrange
+            LoginCredentials locked = credentials(5, START.plusSeconds(60));
+            clock.advance(Duration.ofSeconds(60));
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.checkNotLocked(locked)).verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should record a failure with the configured lockout policy")
+        void shouldRecordFailure() {
+            // Arrange
+            UUID userId = UUID.randomUUID();
+            when(authUserRepository.recordFailedLogin(userId, START, 5, 60, 3600)).thenReturn(Mono.just(1));
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.recordFailure(userId)).verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not turn a failed failure write into an error")
+        void shouldSwallowRecordFailureError() {
+            // Arrange
+            UUID userId = UUID.randomUUID();
+            when(authUserRepository.recordFailedLogin(userId, START, 5, 60, 3600))
+                    .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.recordFailure(userId)).verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reset the failure count only when there is one")
+        void shouldResetOnlyWhenNeeded() {
+            // Arrange
+            LoginCredentials clean = credentials(0, null);
+            LoginCredentials failedBefore = credentials(2, null);
+            when(authUserRepository.resetFailedLogins(failedBefore.id())).thenReturn(Mono.just(1));
+
+            // Act & Assert
+            StepVerifier.create(loginThrottleService.recordSuccess(clean)).verifyComplete();
+            StepVerifier.create(loginThrottleService.recordSuccess(failedBefore)).verifyComplete();
+
+            verify(authUserRepository, never()).resetFailedLogins(clean.id());
+        }
+    }
+
+    private double counter(String reason) {
+        return meterRegistry.get("auth.login.throttled").tag("reason", reason).counter().count();
+    }
+
+    private static LoginCredentials credentials(int failedAttempts, Instant lockedUntil) {
+        return new LoginCredentials(UUID.randomUUID(), "$2a$10$hash", Role.VOLUNTEER, UserStatus.ACTIVE, 0,
+                failedAttempts, lockedUntil);
+    }
+}
@@ -0,0 +1,131 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.coordvol.auth_service.config.PasswordEncoderConfig;
+import com.coordvol.auth_service.exception.ServiceUnavailableException;
+import com.coordvol.auth_service.service.impl.PasswordHashingServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for PasswordHashingService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Password Hashing Service Test")
+public class PasswordHashingServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PasswordHashingServiceImpl hashingService;
+
+    @BeforeEach
+    void setUp() {
+        // One thread and a single queue slot so saturation is easy to reach
+        hashingService = new PasswordHashingServiceImpl(passwordEncoder, new SimpleMeterRegistry(), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingService.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash off the calling thread")
+    void shouldHashOnHashingPool() {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenAnswer(invocation -> Thread.currentThread().getName());
+
+        // Act & Assert
+        StepVerifier.create(hashingService.encode("password123"))
+                .assertNext(threadName -> assertThat(threadName).startsWith("password-hashing-"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail fast with ServiceUnavailableException when the queue is full")
+    void shouldRejectWhenSaturated() throws InterruptedException {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        hashingService.matches("busy", "hash").subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        hashingService.matches("queued", "hash").subscribe();
+
+        // Act & Assert
+        try {
+            StepVerifier.create(hashingService.matches("rejected", "hash"))
+                    .expectError(ServiceUnavailableException.class)
+                    .verify();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash of hashes below the configured cost only")
+    void shouldFlagStaleCostForRehash() {
+        // Arrange
+        PasswordEncoder encoder = new PasswordEncoderConfig().passwordEncoder(5, 0, 4, 16);
+        PasswordHashingServiceImpl realService = new PasswordHashingServiceImpl(encoder, new SimpleMeterRegistry(), 1, 1);
+        String stale = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123");
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+        String current = encoder.encode("password123");
+
+        try {
+            // Act & Assert
+            assertThat(realService.needsRehash(stale)).isTrue();
+            assertThat(realService.needsRehash(legacy)).isTrue();
+            assertThat(realService.needsRehash(current)).isFalse();
+            StepVerifier.create(realService.matches("password123", legacy))
+                    .expectNext(true)
+                    .verifyComplete();
+        } finally {
+            realService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should check against a hash of the configured cost and never match")
+    void shouldMatchNothingWithConfiguredCost() {
+        // Arrange
+        when(passwordEncoder.encode(any())).thenReturn("{bcrypt}unmatchable");
+        when(passwordEncoder.matches("password123", "{bcrypt}unmatchable")).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(hashingService.matchesNothing("password123"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(hashingService.matchesNothing("password123"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(passwordEncoder, times(1)).encode(any());
+        verify(passwordEncoder, times(2)).matches("password123", "{bcrypt}unmatchable");
+    }
+}
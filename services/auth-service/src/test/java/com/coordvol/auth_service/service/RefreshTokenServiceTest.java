@@ -0,0 +1,172 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.coordvol.auth_service.domain.entity.RefreshToken;
+import com.coordvol.auth_service.exception.UnauthorizedException;
+import com.coordvol.auth_service.repository.RefreshTokenRepository;
+import com.coordvol.auth_service.service.impl.RefreshTokenServiceImpl;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for RefreshTokenService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Refresh Token Service Test")
+public class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-02T07:30:00Z"), ZoneOffset.UTC);
+    private final Instant now = clock.instant();
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(
+                refreshTokenRepository, transactionalOperator, Duration.ofDays(14), 1000, clock);
+        // Only rotation runs in a transaction
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should rotate a live token within the same family")
+    void shouldRotateToken() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        RefreshToken consumed = RefreshToken.builder().userId(userId).familyId(familyId).build();
+        when(refreshTokenRepository.consume(anyString(), eq(now))).thenReturn(Mono.just(consumed));
+        when(refreshTokenRepository.save(any(RefreshToken.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(refreshTokenService.rotate("presented-token"))
+                .assertNext(rotation -> {
+                    assertThat(rotation.userId()).isEqualTo(userId);
+                    assertThat(rotation.refreshToken()).isNotEqualTo("presented-token").hasSize(43);
+                })
+                .verifyComplete();
+
+        // Only the digest is stored, never the token itself
+        verify(refreshTokenRepository).save(argThat(token ->
+                token.getFamilyId().equals(familyId) && token.getTokenHash().length() == 64
+                        && token.getExpiresAt().equals(now.plus(Duration.ofDays(14)))));
+    }
+
+    @Test
+    @DisplayName("Should revoke the family when a rotated token is reused")
+    void shouldRevokeFamilyOnReuse() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        RefreshToken alreadyUsed = RefreshToken.builder()
+                .userId(UUID.randomUUID())
+                .familyId(familyId)
+                .usedAt(now.minus(Duration.ofMinutes(5)))
+                .build();
+        when(refreshTokenRepository.consume(anyString(), any())).thenReturn(Mono.empty());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.just(alreadyUsed));
+        when(refreshTokenRepository.revokeFamily(familyId, now)).thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(refreshTokenService.rotate("stolen-token"))
+                .expectErrorMatches(throwable -> throwable instanceof UnauthorizedException &&
+                        throwable.getMessage().contains("reuse"))
+                .verify();
+
+        verify(refreshTokenRepository).revokeFamily(familyId, now);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should issue nothing when the user is no longer active")
+    void shouldRejectInactiveUser() {
+        // Arrange
+        RefreshToken live = RefreshToken.builder()
+                .userId(UUID.randomUUID())
+                .familyId(UUID.randomUUID())
+                .expiresAt(now.plus(Duration.ofDays(1)))
+                .build();
+        when(refreshTokenRepository.consume(anyString(), eq(now))).thenReturn(Mono.empty());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.just(live));
+
+        // Act & Assert
+        StepVerifier.create(refreshTokenService.rotate("inactive-user-token"))
+                .expectErrorMatches(throwable -> throwable instanceof UnauthorizedException &&
+                        throwable.getMessage().contains("User is not active"))
+                .verify();
+
+        verify(refreshTokenRepository, never()).save(any());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should revoke the family of the presented token on logout")
+    void shouldRevokeFamilyOfToken() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        when(refreshTokenRepository.revokeFamilyOfToken(eq(userId), argThat(hash -> hash.length() == 64), eq(now)))
+                .thenReturn(Mono.just(3));
+
+        // Act & Assert
+        StepVerifier.create(refreshTokenService.revoke(userId, "session-token")).verifyComplete();
+
+        verify(refreshTokenRepository, never()).revokeAllForUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should revoke every family of the user when no token is presented")
+    void shouldRevokeAllFamiliesWithoutToken() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        when(refreshTokenRepository.revokeAllForUser(userId, now)).thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(refreshTokenService.revoke(userId, null)).verifyComplete();
+
+        verify(refreshTokenRepository, never()).revokeFamilyOfToken(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown tokens")
+    void shouldRejectUnknownToken() {
+        // Arrange
+        when(refreshTokenRepository.consume(anyString(), any())).thenReturn(Mono.empty());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(refreshTokenService.rotate("unknown-token"))
+                .expectError(UnauthorizedException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,185 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.dto.TokenIntrospectionDTO;
+import com.coordvol.auth_service.exception.BadRequestException;
+import com.coordvol.auth_service.service.impl.TokenIntrospectionServiceImpl;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for TokenIntrospectionService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Introspection Service Test")
+public class TokenIntrospectionServiceTest {
+
+    private static final int MAX_BATCH_SIZE = 3;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    private TokenIntrospectionServiceImpl tokenIntrospectionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenIntrospectionService = new TokenIntrospectionServiceImpl(
+                jwtService, tokenRevocationService, tokenEpochService, MAX_BATCH_SIZE, 2);
+        // Defaults for tokens that pass verification; each test overrides what it checks
+        lenient().when(tokenRevocationService.isRevoked(any())).thenReturn(Mono.just(false));
+        lenient().when(tokenEpochService.isCurrent(any())).thenReturn(Mono.just(true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenIntrospectionService.destroy();
+    }
+
+    @Test
+    @DisplayName("Should report a valid token as active with its claims")
+    void shouldReportValidToken() {
+        // Arrange
+        TokenClaims claims = claims();
+        when(jwtService.verifyToken("valid")).thenReturn(new TokenVerification(TokenValidationResult.VALID, claims));
+
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(List.of("valid")))
+                .assertNext(results -> {
+                    TokenIntrospectionDTO result = results.get(0);
+                    assertThat(result.isActive()).isTrue();
+                    assertThat(result.getUserId()).isEqualTo(claims.userId());
+                    assertThat(result.getRole()).isEqualTo(Role.COORDINATOR);
+                    assertThat(result.getExpiresAt()).isEqualTo(claims.expiration());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report a token that fails verification as inactive without further lookups")
+    void shouldReportUnverifiedTokenInactive() {
+        // Arrange
+        when(jwtService.verifyToken("forged"))
+                .thenReturn(new TokenVerification(TokenValidationResult.BAD_SIGNATURE, null));
+
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(List.of("forged")))
+                .assertNext(results -> assertInactive(results.get(0)))
+                .verifyComplete();
+
+        verify(tokenRevocationService, never()).isRevoked(any());
+        verify(tokenEpochService, never()).isCurrent(any());
+    }
+
+    @Test
+    @DisplayName("Should report a revoked token as inactive")
+    void shouldReportRevokedTokenInactive() {
+        // Arrange
+        TokenClaims claims = claims();
+        when(jwtService.verifyToken("revoked")).thenReturn(new TokenVerification(TokenValidationResult.VALID, claims));
+        when(tokenRevocationService.isRevoked(claims)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(List.of("revoked")))
+                .assertNext(results -> assertInactive(results.get(0)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report a token issued before a status or password change as inactive")
+    void shouldReportStaleEpochInactive() {
+        // Arrange
+        TokenClaims claims = claims();
+        when(jwtService.verifyToken("stale")).thenReturn(new TokenVerification(TokenValidationResult.VALID, claims));
+        when(tokenEpochService.isCurrent(claims)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(List.of("stale")))
+                .assertNext(results -> assertInactive(results.get(0)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report a token as inactive when a lookup fails instead of failing the batch")
+    void shouldReportLookupFailureInactive() {
+        // Arrange
+        TokenClaims claims = claims();
+        when(jwtService.verifyToken("valid")).thenReturn(new TokenVerification(TokenValidationResult.VALID, claims));
+        when(tokenRevocationService.isRevoked(claims))
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(List.of("valid")))
+                .assertNext(results -> assertInactive(results.get(0)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return results in request order")
+    void shouldKeepRequestOrder() {
+        // Arrange
+        TokenClaims first = claims();
+        TokenClaims third = claims();
+        when(jwtService.verifyToken("first")).thenReturn(new TokenVerification(TokenValidationResult.VALID, first));
+        when(jwtService.verifyToken("expired")).thenReturn(new TokenVerification(TokenValidationResult.EXPIRED, null));
+        when(jwtService.verifyToken("third")).thenReturn(new TokenVerification(TokenValidationResult.VALID, third));
+
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(List.of("first", "expired", "third")))
+                .assertNext(results -> {
+                    assertThat(results).hasSize(3);
+                    assertThat(results.get(0).getUserId()).isEqualTo(first.userId());
+                    assertInactive(results.get(1));
+                    assertThat(results.get(2).getUserId()).isEqualTo(third.userId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured maximum")
+    void shouldRejectOversizedBatch() {
+        // Act & Assert
+        StepVerifier.create(tokenIntrospectionService.introspect(Collections.nCopies(MAX_BATCH_SIZE + 1, "token")))
+                .expectError(BadRequestException.class)
+                .verify();
+
+        verify(jwtService, never()).verifyToken(any());
+    }
+
+    private static TokenClaims claims() {
+        return new TokenClaims(UUID.randomUUID(), UUID.randomUUID(), Role.COORDINATOR,
+                new Date(System.currentTimeMillis() + 60_000), "auth-service", 0);
+    }
+
+    private static void assertInactive(TokenIntrospectionDTO result) {
+        assertThat(result.isActive()).isFalse();
+        assertThat(result.getUserId()).isNull();
+        assertThat(result.getRole()).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package com.coordvol.auth_service.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.repository.RevokedTokenRepository;
+import com.coordvol.auth_service.service.impl.TokenRevocationServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for TokenRevocationService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Revocation Service Test")
+public class TokenRevocationServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-02T07:30:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationServiceImpl(
+                revokedTokenRepository, new SimpleMeterRegistry(), CLOCK, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should store the jti of a revoked token until its expiry")
+    void shouldStoreRevokedToken() {
+        // Arrange
+        TokenClaims claims = claims(UUID.randomUUID());
+        when(revokedTokenRepository.insertIfAbsent(claims.tokenId(), claims.expiration().toInstant(),
+                CLOCK.instant())).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(tokenRevocationService.revoke(claims)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete without storing anything for a token without jti")
+    void shouldIgnoreTokenWithoutJti() {
+        // Act & Assert
+        StepVerifier.create(tokenRevocationService.revoke(claims(null))).verifyComplete();
+
+        verify(revokedTokenRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    private static TokenClaims claims(UUID tokenId) {
+        return new TokenClaims(tokenId, UUID.randomUUID(), Role.VOLUNTEER,
+                Date.from(CLOCK.instant().plusSeconds(900)), "auth-service", 0);
+    }
+}
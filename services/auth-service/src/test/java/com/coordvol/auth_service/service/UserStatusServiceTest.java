@@ -0,0 +1,198 @@
+package com.coordvol.auth_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.coordvol.auth_service.domain.enums.Role;
+import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.dto.BulkStatusUpdateRequestDTO;
+import com.coordvol.auth_service.dto.UserStatusUpdateRequestDTO;
+import com.coordvol.auth_service.exception.BadRequestException;
+import com.coordvol.auth_service.exception.ConflictException;
+import com.coordvol.auth_service.repository.AuthUserRepository;
+import com.coordvol.auth_service.service.impl.UserStatusServiceImpl;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for UserStatusService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Status Service Test")
+public class UserStatusServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final UUID CALLER = UUID.randomUUID();
+
+    @Mock
+    private AuthUserRepository authUserRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private UserStatusService userStatusService;
+
+    @BeforeEach
+    void setUp() {
+        userStatusService = new UserStatusServiceImpl(authUserRepository, transactionalOperator, CHUNK_SIZE);
+        // Only changes that may deactivate an admin run in a transaction
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("Caller Exclusion Tests")
+    class CallerExclusionTests {
+
+        @Test
+        @DisplayName("Should leave the caller and repeated ids out of an id list")
+        void shouldExcludeCallerFromIds() {
+            // Arrange
+            UUID other = UUID.randomUUID();
+            stubAdminGuard(1L);
+            when(authUserRepository.updateStatusByIds(List.of(other), UserStatus.INACTIVE, CHUNK_SIZE))
+                    .thenReturn(Mono.just(1L));
+
+            // Act & Assert
+            StepVerifier.create(userStatusService.bulkUpdateStatus(CALLER, BulkStatusUpdateRequestDTO.builder()
+                            .status(UserStatus.INACTIVE)
+                            .userIds(List.of(other, CALLER, other))
+                            .build()))
+                    .assertNext(response -> {
+                        assertThat(response.getRequested()).isEqualTo(3);
+                        assertThat(response.getUpdated()).isEqualTo(1L);
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should pass the caller as excluded to a filter update")
+        void shouldExcludeCallerFromFilter() {
+            // Arrange
+            stubAdminGuard(1L);
+            when(authUserRepository.updateStatusByFilter(Role.ADMIN, null, CALLER, UserStatus.INACTIVE, CHUNK_SIZE))
+                    .thenReturn(Mono.just(4L));
+
+            // Act & Assert
+            StepVerifier.create(userStatusService.bulkUpdateStatus(CALLER, BulkStatusUpdateRequestDTO.builder()
+                            .status(UserStatus.INACTIVE)
+                            .role(Role.ADMIN)
+                            .build()))
+                    .assertNext(response -> {
+                        assertThat(response.getRequested()).isNull();
+                        assertThat(response.getUpdated()).isEqualTo(4L);
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should require either ids or a filter")
+        void shouldRejectIdsAndFilter() {
+            // Act & Assert
+            StepVerifier.create(userStatusService.bulkUpdateStatus(CALLER, BulkStatusUpdateRequestDTO.builder()
+                            .status(UserStatus.INACTIVE)
+                            .userIds(List.of(UUID.randomUUID()))
+                            .role(Role.VOLUNTEER)
+                            .build()))
+                    .expectError(BadRequestException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Last Admin Tests")
+    class LastAdminTests {
+
+        @Test
+        @DisplayName("Should refuse a bulk change that leaves no active admin")
+        void shouldRefuseBulkChangeWithoutAdmin() {
+            // Arrange
+            stubAdminGuard(0L);
+            when(authUserRepository.updateStatusByFilter(null, LocalDateTime.of(2026, 1, 1, 0, 0), CALLER,
+                    UserStatus.DELETED, CHUNK_SIZE)).thenReturn(Mono.just(7L));
+
+            // Act & Assert
+            StepVerifier.create(userStatusService.bulkUpdateStatus(CALLER, BulkStatusUpdateRequestDTO.builder()
+                            .status(UserStatus.DELETED)
+                            .createdBefore(LocalDateTime.of(2026, 1, 1, 0, 0))
+                            .build()))
+                    .expectErrorSatisfies(error -> {
+                        assertThat(error).isInstanceOf(ConflictException.class);
+                        assertThat(((ConflictException) error).getReason())
+                                .isEqualTo("Cannot deactivate the last active admin");
+                    })
+                    .verify();
+            verify(transactionalOperator).transactional(any(Mono.class));
+        }
+
+        @Test
+        @DisplayName("Should refuse to deactivate the last active admin by id")
+        void shouldRefuseSingleChangeWithoutAdmin() {
+            // Arrange
+            UUID lastAdmin = UUID.randomUUID();
+            stubAdminGuard(0L);
+            when(authUserRepository.existsById(lastAdmin)).thenReturn(Mono.just(true));
+            when(authUserRepository.updateStatusByIds(List.of(lastAdmin), UserStatus.INACTIVE, CHUNK_SIZE))
+                    .thenReturn(Mono.just(1L));
+
+            // Act & Assert
+            StepVerifier.create(userStatusService.updateStatus(lastAdmin,
+                            new UserStatusUpdateRequestDTO(UserStatus.INACTIVE)))
+                    .expectError(ConflictException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should not lock admins for changes that cannot deactivate one")
+        void shouldSkipGuardWhenNoAdminAffected() {
+            // Arrange
+            when(authUserRepository.updateStatusByFilter(eq(Role.VOLUNTEER), any(), eq(CALLER),
+                    eq(UserStatus.INACTIVE), anyInt())).thenReturn(Mono.just(2L));
+            when(authUserRepository.updateStatusByIds(any(), eq(UserStatus.ACTIVE), anyInt()))
+                    .thenReturn(Mono.just(1L));
+
+            // Act & Assert
+            StepVerifier.create(userStatusService.bulkUpdateStatus(CALLER, BulkStatusUpdateRequestDTO.builder()
+                            .status(UserStatus.INACTIVE)
+                            .role(Role.VOLUNTEER)
+                            .build()))
+                    .expectNextCount(1)
+                    .verifyComplete();
+            StepVerifier.create(userStatusService.bulkUpdateStatus(CALLER, BulkStatusUpdateRequestDTO.builder()
+                            .status(UserStatus.ACTIVE)
+                            .userIds(List.of(UUID.randomUUID()))
+                            .build()))
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            verify(authUserRepository, never()).lockActiveAdmins();
+            verify(transactionalOperator, never()).transactional(any(Mono.class));
+        }
+    }
+
+    private void stubAdminGuard(long activeAdminsAfter) {
+        when(authUserRepository.lockActiveAdmins()).thenReturn(Flux.just(CALLER));
+        when(authUserRepository.countActiveAdmins()).thenReturn(Mono.just(activeAdminsAfter));
+    }
+}
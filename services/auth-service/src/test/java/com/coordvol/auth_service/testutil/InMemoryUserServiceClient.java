@@ -0,0 +1,43 @@
+package com.coordvol.auth_service.testutil;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.coordvol.auth_service.client.UserServiceClient;
+import com.coordvol.auth_service.domain.enums.Language;
+import com.coordvol.auth_service.domain.event.UserProfileCreatedEvent;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process stand-in for the User Service.
+ *
+ * Records every profile it receives and can be told to fail the next N calls
+ * to exercise the outbox retry path.
+ */
+public class InMemoryUserServiceClient implements UserServiceClient {
+
+    private final List<UserProfileCreatedEvent> profiles = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+
+    @Override
+    public Mono<Void> createUserProfile(UUID userId, String firstName, String lastName, String email, Language language) {
+        return Mono.defer(() -> {
+            if (failuresRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                return Mono.error(new IllegalStateException("User Service unavailable"));
+            }
+            profiles.add(new UserProfileCreatedEvent(userId, email, firstName, lastName, language));
+            return Mono.empty();
+        });
+    }
+
+    public void failNextCalls(int count) {
+        failuresRemaining.set(count);
+    }
+
+    public List<UserProfileCreatedEvent> getProfiles() {
+        return List.copyOf(profiles);
+    }
+}
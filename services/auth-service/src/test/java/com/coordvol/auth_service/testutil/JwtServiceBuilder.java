@@ -0,0 +1,74 @@
+package com.coordvol.auth_service.testutil;
+
+import java.time.Clock;
+
+import com.coordvol.auth_service.security.SigningKeyRing;
+import com.coordvol.auth_service.security.VerifiedTokenCache;
+import com.coordvol.auth_service.service.impl.JwtServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds a JwtServiceImpl for tests and benchmarks.
+ *
+ * Defaults to the HMAC secret only, the standard profile, the system UTC clock
+ * and a disabled verified token cache, so each test sets just what it checks.
+ *
+ * Usage:
+ *
+ * <pre>
+ * JwtServiceImpl jwtService = JwtServiceBuilder.jwtService(secret, expiration, issuer).compact(true).build();
+ * </pre>
+ */
+public class JwtServiceBuilder {
+
+    private final String secret;
+    private final long expiration;
+    private final String issuer;
+    private SigningKeyRing keyRing = SigningKeyRing.empty();
+    private boolean compact;
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VerifiedTokenCache tokenCache;
+    private Clock clock = Clock.systemUTC();
+
+    private JwtServiceBuilder(String secret, long expiration, String issuer) {
+        this.secret = secret;
+        this.expiration = expiration;
+        this.issuer = issuer;
+    }
+
+    public static JwtServiceBuilder jwtService(String secret, long expiration, String issuer) {
+        return new JwtServiceBuilder(secret, expiration, issuer);
+    }
+
+    public JwtServiceBuilder keyRing(SigningKeyRing keyRing) {
+        this.keyRing = keyRing;
+        return this;
+    }
+
+    public JwtServiceBuilder compact(boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
+    public JwtServiceBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        return this;
+    }
+
+    public JwtServiceBuilder tokenCache(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+        return this;
+    }
+
+    public JwtServiceBuilder clock(Clock clock) {
+        this.clock = clock;
+        return this;
+    }
+
+    public JwtServiceImpl build() {
+        VerifiedTokenCache cache = tokenCache != null ? tokenCache : new VerifiedTokenCache(0, meterRegistry);
+        return new JwtServiceImpl(secret, expiration, issuer, cache, keyRing, compact, meterRegistry, clock);
+    }
+}
@@ -0,0 +1,26 @@
+package com.coordvol.auth_service.testutil;
+
+import java.time.Clock;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.coordvol.auth_service.config.SecurityAuditorAware;
+
+/**
+ * Beans the custom repository fragments need that a @DataR2dbcTest slice
+ * does not pick up on its own.
+ */
+@TestConfiguration
+public class RepositoryTestConfiguration {
+
+    @Bean
+    Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    SecurityAuditorAware securityAuditorAware() {
+        return new SecurityAuditorAware();
+    }
+}
@@ -1,14 +1,15 @@
 package com.coordvol.auth_service.testutil;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.coordvol.auth_service.domain.entity.AuthUser;
 import com.coordvol.auth_service.domain.enums.Language;
 import com.coordvol.auth_service.domain.enums.Role;
 import com.coordvol.auth_service.domain.enums.UserStatus;
+import com.coordvol.auth_service.dto.CreateUserRequestDTO;
 import com.coordvol.auth_service.dto.LoginRequestDTO;
 import com.coordvol.auth_service.dto.RegisterRequestDTO;
+import com.coordvol.auth_service.dto.UserStatusUpdateRequestDTO;
 
 /**
  * Test Data Builder utility class.
@@ -32,9 +33,7 @@ public class TestDataBuilder {
                 .email("user@example.com")
                 .passwordHash("$2a$10$hashedPassword123456789")
                 .role(Role.VOLUNTEER)
-                .status(UserStatus.ACTIVE)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now());
+                .status(UserStatus.ACTIVE);
     }
 
     public static AuthUser.AuthUserBuilder aVolunteer() {
@@ -100,19 +99,19 @@ public class TestDataBuilder {
                 .role(Role.VOLUNTEER);
     }
 
-    public static UpdateStatusRequestDTO aStatusUpdate(UserStatus status) {
-        return new UpdateStatusRequestd(status);
+    public static UserStatusUpdateRequestDTO aStatusUpdate(UserStatus status) {
+        return new UserStatusUpdateRequestDTO(status);
     }
 
-    public static UpdateStatusRequestDTO anInactiveStatusUpdate() {
+    public static UserStatusUpdateRequestDTO anInactiveStatusUpdate() {
         return aStatusUpdate(UserStatus.INACTIVE);
     }
 
-    public static UpdateStatusRequestDTO aDeletedStatusUpdate() {
+    public static UserStatusUpdateRequestDTO aDeletedStatusUpdate() {
         return aStatusUpdate(UserStatus.DELETED);
     }
 
-    public static UpdateStatusRequestDTO anActiveStatusUpdate() {
+    public static UserStatusUpdateRequestDTO anActiveStatusUpdate() {
         return aStatusUpdate(UserStatus.ACTIVE);
     }
 